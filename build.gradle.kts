@@ -3,4 +3,5 @@ plugins {
     alias(privateLibJava.plugins.repo.private).apply(false)
     alias(privateLibJava.plugins.repo.public).apply(false)
     alias(privateLibJava.plugins.publish.private).apply(false)
+    alias(libJava.plugins.jmh).apply(false)
 }
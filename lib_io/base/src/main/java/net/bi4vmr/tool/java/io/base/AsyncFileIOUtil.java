@@ -0,0 +1,339 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.OpenOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 异步文件输入与输出工具。
+ * <p>
+ * 基于 {@link AsynchronousFileChannel} 实现，所有方法都会立即返回 {@link CompletableFuture} ，调用线程不会因为磁盘读写而阻塞。
+ * <p>
+ * 每个实例可以指定I/O回调所使用的线程池，以及同时进行的请求数量上限；超出上限的请求将进入队列，待已有请求完成后再依次执行。
+ * <p>
+ * 与 {@link FileIOUtil} 相同，操作失败时Future将以内容为空的结果正常完成，错误信息将被输出到控制台上。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public class AsyncFileIOUtil extends IOUtil {
+
+    private static final Set<OpenOption> READ_OPTIONS = new HashSet<>(Arrays.asList(StandardOpenOption.READ));
+    private static final Set<OpenOption> WRITE_OPTIONS = new HashSet<>(Arrays.asList(
+            StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING));
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+    // 当前线程是否正在分发请求，用于避免请求同步完成时的递归调用。
+    private final ThreadLocal<Boolean> dispatching = new ThreadLocal<>();
+
+    /**
+     * 构造方法。
+     *
+     * @param executor    执行I/O回调的线程池，为空值时使用JDK默认的线程池。
+     * @param maxInFlight 同时进行的请求数量上限。
+     */
+    public AsyncFileIOUtil(ExecutorService executor, int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in-flight count must > 0!");
+        }
+
+        this.executor = executor;
+        this.permits = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * 构造方法。
+     * <p>
+     * 使用JDK默认的线程池执行I/O回调。
+     *
+     * @param maxInFlight 同时进行的请求数量上限。
+     */
+    public AsyncFileIOUtil(int maxInFlight) {
+        this(null, maxInFlight);
+    }
+
+
+    /*
+     * ----- 从文件读取二进制数据 -----
+     */
+
+    /**
+     * 从文件异步读取二进制数据。
+     * <p>
+     * 该方法将从第二参数"offset"指定位置开始，读取第三参数"length"指定长度的数据。
+     *
+     * @param file   目标文件。
+     * @param offset 起始位置（从0开始计数）。
+     * @param length 读取字节数。
+     * @return 二进制数据的Future。结果永不为空值，读取失败时将返回内容为空的数组。
+     */
+    public CompletableFuture<byte[]> readAsBytes(File file, long offset, int length) {
+        // 校验文件是否可读
+        if (file == null || !file.exists() || file.isDirectory() || !file.canRead()) {
+            System.err.println("AsyncFileIOUtil - File not exist or no permission to read!");
+            return CompletableFuture.completedFuture(new byte[0]);
+        }
+
+        // 校验输入参数
+        long fileLength = file.length();
+        if (offset < 0 || offset >= fileLength || length < 0) {
+            System.err.println("AsyncFileIOUtil - Offset or length value invalid!");
+            return CompletableFuture.completedFuture(new byte[0]);
+        }
+
+        // 如果参数指定的长度大于实际数据长度，则改写为实际数据长度。
+        int readLength = (int) Math.min(length, fileLength - offset);
+        return schedule(future -> startRead(file, offset, readLength, future));
+    }
+
+    /**
+     * 从文件异步读取二进制数据。
+     * <p>
+     * 该方法将从文件起始位置开始，读取第二参数"length"指定长度的数据。
+     *
+     * @param file   目标文件。
+     * @param length 读取字节数。
+     * @return 二进制数据的Future。结果永不为空值，读取失败时将返回内容为空的数组。
+     */
+    public CompletableFuture<byte[]> readAsBytes(File file, int length) {
+        return readAsBytes(file, 0L, length);
+    }
+
+    /**
+     * 从文件异步读取十六进制文本。
+     * <p>
+     * 该方法将从第二参数"offset"指定位置开始，读取第三参数"length"指定长度的数据，并转换为十六进制文本。
+     *
+     * @param file   目标文件。
+     * @param offset 起始位置（从0开始计数）。
+     * @param length 读取字节数。
+     * @return 十六进制文本的Future。结果永不为空值，读取失败时将返回内容为空的字符串。
+     */
+    public CompletableFuture<String> readAsHexText(File file, long offset, int length) {
+        return readAsBytes(file, offset, length)
+                .thenApply(datas -> FileIOUtil.toHexString(datas, true, true));
+    }
+
+    /**
+     * 从文件异步读取十六进制文本。
+     * <p>
+     * 该方法将从文件起始位置开始，读取第二参数"length"指定长度的数据，并转换为十六进制文本。
+     *
+     * @param file   目标文件。
+     * @param length 读取字节数。
+     * @return 十六进制文本的Future。结果永不为空值，读取失败时将返回内容为空的字符串。
+     */
+    public CompletableFuture<String> readAsHexText(File file, int length) {
+        return readAsHexText(file, 0L, length);
+    }
+
+
+    /*
+     * ----- 将字节数组转存至文件 -----
+     */
+
+    /**
+     * 将字节数组中的数据异步转存至文件。
+     *
+     * @param data 字节数组。
+     * @param file 目标文件。
+     * @return 操作结果的Future。"true"表示数据已全部写入；"false"表示操作失败。
+     */
+    public CompletableFuture<Boolean> saveToFile(byte[] data, File file) {
+        // 校验输入参数
+        if (data == null || file == null) {
+            System.err.println("AsyncFileIOUtil - Data or file is null!");
+            return CompletableFuture.completedFuture(false);
+        }
+
+        return schedule(future -> startWrite(data, file, future));
+    }
+
+
+    /**
+     * 获取当前排队等待执行的请求数量。
+     *
+     * @return 请求数量。
+     */
+    public int getPendingCount() {
+        return pendingTasks.size();
+    }
+
+    /**
+     * 提交请求。
+     * <p>
+     * 进行中的请求数量未达到上限时立即执行，否则进入队列等待。
+     *
+     * @param operation 请求的具体操作，需要在完成时设置Future的结果。
+     * @param <T>       结果类型。
+     * @return 请求结果的Future。
+     */
+    private <T> CompletableFuture<T> schedule(Operation<T> operation) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        pendingTasks.offer(() -> {
+            // 请求完成后归还许可，并执行队列中的下一个请求。
+            future.whenComplete((result, error) -> {
+                permits.release();
+                dispatch();
+            });
+
+            try {
+                operation.start(future);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+
+        dispatch();
+        return future;
+    }
+
+    /**
+     * 在许可范围内执行队列中的请求。
+     */
+    private void dispatch() {
+        if (dispatching.get() != null) {
+            // 外层的分发循环将继续处理队列。
+            return;
+        }
+
+        dispatching.set(Boolean.TRUE);
+        try {
+            while (!pendingTasks.isEmpty() && permits.tryAcquire()) {
+                Runnable task = pendingTasks.poll();
+                if (task == null) {
+                    // 其他线程已取走请求，归还许可。
+                    permits.release();
+                    continue;
+                }
+
+                task.run();
+            }
+        } finally {
+            dispatching.remove();
+        }
+    }
+
+    /**
+     * 开始读取文件。
+     *
+     * @param file   目标文件。
+     * @param offset 起始位置。
+     * @param length 读取字节数，已确认不超过文件末尾。
+     * @param future 结果Future。
+     */
+    private void startRead(File file, long offset, int length, CompletableFuture<byte[]> future) {
+        long startTime = System.nanoTime();
+        AsynchronousFileChannel channel;
+        try {
+            channel = AsynchronousFileChannel.open(file.toPath(), READ_OPTIONS, executor);
+        } catch (IOException e) {
+            System.err.println("AsyncFileIOUtil - Open file failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("AsyncFileIOUtil.readAsBytes", startTime, e);
+            future.complete(new byte[0]);
+            return;
+        }
+
+        byte[] result = new byte[length];
+        ByteBuffer buffer = ByteBuffer.wrap(result);
+        channel.read(buffer, offset, null, new CompletionHandler<Integer, Void>() {
+            @Override
+            public void completed(Integer count, Void attachment) {
+                if (count != -1 && buffer.hasRemaining()) {
+                    // 数据尚未读取完毕，从新的位置继续读取。
+                    channel.read(buffer, offset + buffer.position(), null, this);
+                    return;
+                }
+
+                closeSilently(channel);
+                recordCompleted("AsyncFileIOUtil.readAsBytes", startTime, buffer.position(), 0L, 0);
+                if (buffer.hasRemaining()) {
+                    // 读取期间文件被截断，截取有效元素。
+                    future.complete(Arrays.copyOf(result, buffer.position()));
+                } else {
+                    future.complete(result);
+                }
+            }
+
+            @Override
+            public void failed(Throwable e, Void attachment) {
+                closeSilently(channel);
+                System.err.println("AsyncFileIOUtil - Read file as bytes failed! Reason:[" + e.getMessage() + "]");
+                recordFailed("AsyncFileIOUtil.readAsBytes", startTime, e);
+                future.complete(new byte[0]);
+            }
+        });
+    }
+
+    /**
+     * 开始写入文件。
+     *
+     * @param data   字节数组。
+     * @param file   目标文件。
+     * @param future 结果Future。
+     */
+    private void startWrite(byte[] data, File file, CompletableFuture<Boolean> future) {
+        long startTime = System.nanoTime();
+        AsynchronousFileChannel channel;
+        try {
+            channel = AsynchronousFileChannel.open(file.toPath(), WRITE_OPTIONS, executor);
+        } catch (IOException e) {
+            System.err.println("AsyncFileIOUtil - Open file failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("AsyncFileIOUtil.saveToFile", startTime, e);
+            future.complete(false);
+            return;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        channel.write(buffer, 0L, null, new CompletionHandler<Integer, Void>() {
+            @Override
+            public void completed(Integer count, Void attachment) {
+                if (buffer.hasRemaining()) {
+                    channel.write(buffer, buffer.position(), null, this);
+                    return;
+                }
+
+                closeSilently(channel);
+                recordCompleted("AsyncFileIOUtil.saveToFile", startTime, 0L, data.length, 0);
+                future.complete(true);
+            }
+
+            @Override
+            public void failed(Throwable e, Void attachment) {
+                closeSilently(channel);
+                System.err.println("AsyncFileIOUtil - Save to file failed! Reason:[" + e.getMessage() + "]");
+                recordFailed("AsyncFileIOUtil.saveToFile", startTime, e);
+                future.complete(false);
+            }
+        });
+    }
+
+    /**
+     * 异步操作。
+     *
+     * @param <T> 结果类型。
+     */
+    private interface Operation<T> {
+
+        /**
+         * 开始执行操作。
+         *
+         * @param future 结果Future，操作完成时需要设置结果。
+         */
+        void start(CompletableFuture<T> future);
+    }
+}
@@ -1,11 +1,17 @@
 package net.bi4vmr.tool.java.io.base;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 基本输入与输出工具。
@@ -43,6 +49,7 @@ public class BaseIOUtil extends IOUtil {
             return "";
         }
 
+        long startTime = System.nanoTime();
         StringBuilder stringBuilder = new StringBuilder();
         try (
                 InputStreamReader streamReader = new InputStreamReader(stream, charset);
@@ -58,9 +65,12 @@ public class BaseIOUtil extends IOUtil {
                 stringBuilder.append(System.lineSeparator());
             }
 
+            // 数据经过解码，无法统计读取的字节数。
+            recordCompleted("BaseIOUtil.readAllAsText", startTime, -1L, 0L, bufferSize);
             return stringBuilder.toString();
         } catch (IOException e) {
             System.err.println("BaseIOUtil - Read file as text failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("BaseIOUtil.readAllAsText", startTime, e);
         }
 
         return "";
@@ -110,6 +120,210 @@ public class BaseIOUtil extends IOUtil {
         return readAllAsText(stream, BUFFER_SIZE_DEFAULT, StandardCharsets.UTF_8);
     }
 
+    /**
+     * 从输入流读取所有数据并解码为文本。
+     * <p>
+     * 与 {@link #readAllAsText(InputStream, int, Charset)} 不同，该方法保留原始的行结束符，并且不会逐行创建字符串：数据将被批量读取至
+     * 数组中，再一次性解码。"UTF-8"等常用编码将使用 {@link TextDecoder} 快速解码，ASCII字符无需经过 {@link java.nio.charset.CharsetDecoder} 。
+     * <p>
+     * 一次性读取流中的所有数据，只适合数据量已知且较小的流，数据量过大可能会导致内存溢出。
+     * <p>
+     * 操作完毕后输入流将被关闭；遇到异常时默认返回空字符串。
+     *
+     * @param stream   输入流。
+     * @param sizeHint 预估的数据长度（字节），未知时可以传入"0"。
+     * @param charset  字符集。
+     * @return 文本内容。
+     */
+    public static String decodeAllAsText(InputStream stream, int sizeHint, Charset charset) {
+        // 校验输入参数
+        if (stream == null) {
+            System.err.println("BaseIOUtil - InputStream is null!");
+            return "";
+        }
+
+        if (sizeHint < 0) {
+            System.err.println("BaseIOUtil - Size hint must >= 0!");
+            return "";
+        }
+
+        long startTime = System.nanoTime();
+        try (
+                InputStream input = stream
+        ) {
+            int estimate = Math.max(sizeHint, input.available());
+            ByteArraySink sink = new ByteArraySink(estimate > 0 ? estimate : BUFFER_SIZE_DEFAULT);
+            sink.readFrom(input, Integer.MAX_VALUE);
+
+            // 直接解码内部数组，避免复制。
+            ByteBuffer buffer = sink.toByteBuffer();
+            String text = TextDecoder.decode(buffer.array(), 0, sink.size(), charset);
+            recordCompleted("BaseIOUtil.decodeAllAsText", startTime, sink.size(), 0L, 0);
+            return text;
+        } catch (IOException e) {
+            System.err.println("BaseIOUtil - Decode stream as text failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("BaseIOUtil.decodeAllAsText", startTime, e);
+        }
+
+        return "";
+    }
+
+    /**
+     * 从输入流读取所有数据并解码为文本。
+     * <p>
+     * 一次性读取流中的所有数据，只适合数据量已知且较小的流，数据量过大可能会导致内存溢出。
+     * <p>
+     * 操作完毕后输入流将被关闭；遇到异常时默认返回空字符串。
+     *
+     * @param stream  输入流。
+     * @param charset 字符集。
+     * @return 文本内容。
+     */
+    public static String decodeAllAsText(InputStream stream, Charset charset) {
+        return decodeAllAsText(stream, 0, charset);
+    }
+
+    /**
+     * 从输入流读取所有数据并解码为文本。
+     * <p>
+     * 一次性读取流中的所有数据，只适合数据量已知且较小的流，数据量过大可能会导致内存溢出。
+     * <p>
+     * 操作完毕后输入流将被关闭；遇到异常时默认返回空字符串；默认使用"UTF-8"编码。
+     *
+     * @param stream 输入流。
+     * @return 文本内容。
+     */
+    public static String decodeAllAsText(InputStream stream) {
+        return decodeAllAsText(stream, 0, StandardCharsets.UTF_8);
+    }
+
+
+    /*
+     * ----- 预读输入流 -----
+     */
+
+    /**
+     * 为输入流添加后台预读。
+     * <p>
+     * 返回的输入流将在后台线程中提前读取后续数据，适用于慢速存储或网络存储上的顺序读取：调用者处理当前数据的同时，后续数据已在读取中。
+     * <p>
+     * 使用完毕后需要关闭返回的输入流，源输入流将被一同关闭。
+     *
+     * @param stream     源输入流。
+     * @param bufferSize 每个缓冲区的大小（字节）。
+     * @param depth      预读深度，即缓冲区的数量，最小为"2"。
+     * @param executor   执行预读任务的线程池，为空值时将创建独立的守护线程。
+     * @return 预读输入流。
+     */
+    public static PrefetchInputStream prefetch(InputStream stream, int bufferSize, int depth, Executor executor) {
+        return new PrefetchInputStream(stream, bufferSize, depth, executor);
+    }
+
+    /**
+     * 为输入流添加后台预读。
+     * <p>
+     * 使用完毕后需要关闭返回的输入流，源输入流将被一同关闭；默认使用两个"1MB"缓冲区及独立的守护线程。
+     *
+     * @param stream 源输入流。
+     * @return 预读输入流。
+     */
+    public static PrefetchInputStream prefetch(InputStream stream) {
+        return new PrefetchInputStream(stream, BUFFER_SIZE_1MB, 2, null);
+    }
+
+
+    /*
+     * ----- 从输入流逐行读取文本 -----
+     */
+
+    /**
+     * 从输入流逐行读取文本。
+     * <p>
+     * 返回的迭代器每次只在内存中保留一行文本，适合处理体积未知或巨大的流。迭代器返回的 {@link CharSequence} 实例将被复用，内容仅在
+     * 下一次迭代之前有效。
+     * <p>
+     * 调用者需要在使用完毕后关闭迭代器，输入流也将随之关闭；遇到异常时默认返回不包含任何行的迭代器。
+     *
+     * @param stream         输入流。
+     * @param bufferSize     缓冲区大小（字符）。
+     * @param charset        字符集。
+     * @param keepTerminator 是否在每行末尾保留原始的行结束符。
+     * @return 逐行读取文本的迭代器。
+     */
+    public static LineReader readAsLines(InputStream stream, int bufferSize, Charset charset, boolean keepTerminator) {
+        // 校验输入参数
+        if (stream == null) {
+            System.err.println("BaseIOUtil - InputStream is null!");
+            return new LineReader(new ByteArrayInputStream(new byte[0]), 1, charset, keepTerminator);
+        }
+
+        if (bufferSize <= 0) {
+            System.err.println("BaseIOUtil - Buffer size must > 0!");
+            closeSilently(stream);
+            return new LineReader(new ByteArrayInputStream(new byte[0]), 1, charset, keepTerminator);
+        }
+
+        return new LineReader(stream, bufferSize, charset, keepTerminator);
+    }
+
+    /**
+     * 从输入流逐行读取文本。
+     * <p>
+     * 调用者需要在使用完毕后关闭迭代器，输入流也将随之关闭；默认使用"UTF-8"编码及"8KB"缓冲区，不保留行结束符。
+     *
+     * @param stream 输入流。
+     * @return 逐行读取文本的迭代器。
+     */
+    public static LineReader readAsLines(InputStream stream) {
+        return readAsLines(stream, BUFFER_SIZE_DEFAULT, StandardCharsets.UTF_8, false);
+    }
+
+    /**
+     * 从输入流逐行读取文本，并以Stream的形式返回。
+     * <p>
+     * 文本将在Stream被消费时按需读取，内存占用与数据总量无关。
+     * <p>
+     * 调用者需要在使用完毕后关闭Stream，输入流也将随之关闭；读取过程中遇到的异常将被包装为 {@link UncheckedIOException} 抛出。
+     *
+     * @param stream         输入流。
+     * @param bufferSize     缓冲区大小（字符）。
+     * @param charset        字符集。
+     * @param keepTerminator 是否在每行末尾保留原始的行结束符。
+     * @return 文本行的Stream。
+     */
+    public static Stream<String> readAsLineStream(InputStream stream, int bufferSize, Charset charset,
+                                                  boolean keepTerminator) {
+        LineReader reader = readAsLines(stream, bufferSize, charset, keepTerminator);
+        Iterator<String> iterator = new Iterator<String>() {
+            @Override
+            public boolean hasNext() {
+                return reader.hasNext();
+            }
+
+            @Override
+            public String next() {
+                return reader.next().toString();
+            }
+        };
+
+        Spliterator<String> spliterator = Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> closeSilently(reader));
+    }
+
+    /**
+     * 从输入流逐行读取文本，并以Stream的形式返回。
+     * <p>
+     * 调用者需要在使用完毕后关闭Stream，输入流也将随之关闭；默认使用"UTF-8"编码及"8KB"缓冲区，不保留行结束符。
+     *
+     * @param stream 输入流。
+     * @return 文本行的Stream。
+     */
+    public static Stream<String> readAsLineStream(InputStream stream) {
+        return readAsLineStream(stream, BUFFER_SIZE_DEFAULT, StandardCharsets.UTF_8, false);
+    }
+
 
     /*
      * ----- 从输入流读取二进制数据 -----
@@ -120,6 +334,9 @@ public class BaseIOUtil extends IOUtil {
      * <p>
      * 该方法将从第二参数"offset"指定位置开始，读取第三参数"length"指定长度的数据。
      * <p>
+     * 数据将被直接读取至单个数组中，数组的初始容量取第五参数"sizeHint"与 {@link InputStream#available()} 中的较大值（不超过
+     * "length"），容量不足时按倍数扩容。预估值准确时，整个读取过程只需分配一次内存。
+     * <p>
      * 该方法仅适用于简单数据的处理，无法处理长度超过2GiB的部分。这是因为数组容量受到"int"类型最大值的限制，并且单次读取过多数据也可能导
      * 致内存溢出。对于大文件读取场景，调用者可以分块读取文件并进行处理。
      *
@@ -127,71 +344,68 @@ public class BaseIOUtil extends IOUtil {
      * @param offset     起始位置（从0开始计数）。
      * @param length     读取字节数。
      * @param bufferSize 缓冲区大小（字节）。
+     * @param sizeHint   预估的数据长度（字节），未知时可以传入"0"。
      * @return 字节数组。
      */
-    public static byte[] readAsBytes(InputStream stream, long offset, int length, int bufferSize) {
+    public static byte[] readAsBytes(InputStream stream, long offset, int length, int bufferSize, int sizeHint) {
         // 校验输入参数
         if (stream == null) {
             System.err.println("BaseIOUtil - InputStream is null!");
             return new byte[0];
         }
 
-        if (offset < 0L || length <= 0 || bufferSize <= 0) {
+        if (offset < 0L || length <= 0 || bufferSize <= 0 || sizeHint < 0) {
             System.err.println("BaseIOUtil - Offset or length value invalid!");
             return new byte[0];
         }
 
+        long startTime = System.nanoTime();
         try (
-                BufferedInputStream bis = new BufferedInputStream(stream, bufferSize)
+                InputStream input = stream
         ) {
             // 忽略指定长度的数据
-            if (offset > 0L) {
-                long skipped = 0;
-                while (skipped < offset) {
-                    long count = bis.skip(offset - skipped);
-                    if (count <= 0) {
-                        // 跳过操作失败，检测是否已到达末尾。
-                        if (bis.read() == -1) {
-                            return new byte[0];
-                        }
-
-                        skipped++;
-                    } else {
-                        // 跳过操作成功，累计偏移量。
-                        skipped += count;
-                    }
-                }
+            if (skipFully(input, offset) < offset) {
+                recordCompleted("BaseIOUtil.readAsBytes", startTime, 0L, 0L, bufferSize);
+                return new byte[0];
             }
 
-            List<byte[]> result = new ArrayList<>();
-            byte[] buffer = new byte[bufferSize];
-            int remaining = length;
-            while (remaining > 0) {
-                // 当前轮次读取的数量为缓冲区容量和剩余数量中较小的一个
-                int readCount = Math.min(bufferSize, remaining);
-                int count = bis.read(buffer, 0, readCount);
-                // 如果读取方法返回负数，表示已到文件末尾。
-                if (count == -1) {
-                    break;
-                }
-
-                if (count > 0) {
-                    // 将读取到的数据添加到结果列表中
-                    result.add(Arrays.copyOfRange(buffer, 0, count));
-                    // 更新剩余的数据量
-                    remaining -= count;
-                }
+            // 根据预估长度确定初始容量，均未知时以缓冲区大小为准。
+            int estimate = Math.max(sizeHint, input.available());
+            if (estimate <= 0) {
+                estimate = bufferSize;
             }
 
-            // 将每轮读取到的数据合并为单个数组
-            return mergeByteArrayList(result);
+            // 数据直接读取至结果数组中，无需中间缓冲区。
+            ByteArraySink sink = new ByteArraySink(Math.min(estimate, length));
+            sink.readFrom(input, length);
+            recordCompleted("BaseIOUtil.readAsBytes", startTime, sink.size(), 0L, bufferSize);
+            return sink.toByteArray();
         } catch (IOException e) {
             System.err.println("BaseIOUtil - Read file as bytes failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("BaseIOUtil.readAsBytes", startTime, e);
         }
 
         return new byte[0];
     }
 
+    /**
+     * 从输入流读取二进制数据。
+     * <p>
+     * 该方法将从第二参数"offset"指定位置开始，读取第三参数"length"指定长度的数据。
+     * <p>
+     * 该方法仅适用于简单数据的处理，无法处理长度超过2GiB的部分。这是因为数组容量受到"int"类型最大值的限制，并且单次读取过多数据也可能导
+     * 致内存溢出。对于大文件读取场景，调用者可以分块读取文件并进行处理。
+     *
+     * @param stream     输入流。
+     * @param offset     起始位置（从0开始计数）。
+     * @param length     读取字节数。
+     * @param bufferSize 缓冲区大小（字节）。
+     * @return 字节数组。
+     */
+    public static byte[] readAsBytes(InputStream stream, long offset, int length, int bufferSize) {
+        return readAsBytes(stream, offset, length, bufferSize, 0);
+    }
+
     /**
      * 从输入流读取二进制数据。
      * <p>
@@ -244,38 +458,115 @@ public class BaseIOUtil extends IOUtil {
         return readAsBytes(stream, 0L, Integer.MAX_VALUE, BUFFER_SIZE_DEFAULT);
     }
 
+    /**
+     * 从输入流读取所有二进制数据。
+     * <p>
+     * 第二参数"sizeHint"为预估的数据长度，将被用作结果数组的初始容量，预估值准确时整个读取过程只需分配一次内存。
+     * <p>
+     * 操作完毕后输入流将被关闭；遇到异常时默认返回内容为空的数组；默认使用"8KB"缓冲区。
+     * <p>
+     * 该方法仅适用于简单数据的处理，无法处理长度超过2GiB的部分。这是因为数组容量受到"int"类型最大值的限制，并且单次读取过多数据也可能导
+     * 致内存溢出。对于大文件读取场景，调用者可以分块读取文件并进行处理。
+     *
+     * @param stream   输入流。
+     * @param sizeHint 预估的数据长度（字节），未知时可以传入"0"。
+     * @return 字节数组。遇到错误时将返回内容为空的数组。
+     */
+    public static byte[] readAllAsBytes(InputStream stream, int sizeHint) {
+        return readAsBytes(stream, 0L, Integer.MAX_VALUE, BUFFER_SIZE_DEFAULT, sizeHint);
+    }
 
     /**
-     * 将Byte数组List中的元素合并为一个Byte数组。
+     * 从输入流读取二进制数据至Buffer中。
+     * <p>
+     * 该方法将从第二参数"offset"指定位置开始，读取数据直至Buffer被填满或到达流的末尾。目标为堆内存Buffer时，数据直接写入它的底层数组；
+     * 目标为直接内存Buffer时，文件输入流将通过对应的 {@link java.nio.channels.FileChannel} 直接写入，其他输入流则经由
+     * {@link Channels#newChannel(InputStream)} 写入。
+     * <p>
+     * 读取完毕后Buffer的"position"将前移读取的字节数，调用者发送数据前需要自行调用 {@link ByteBuffer#flip()} 方法。
+     * <p>
+     * 操作完毕后输入流将被关闭；遇到异常时默认返回"-1"。
      *
-     * @param input 待合并的List。
-     * @return 合并后的Byte数组。
+     * @param stream 输入流。
+     * @param offset 起始位置（从0开始计数）。
+     * @param buffer 接收数据的Buffer，可以是堆内存或直接内存Buffer。
+     * @return 读取的字节数。读取失败时返回"-1"。
      */
-    private static byte[] mergeByteArrayList(List<byte[]> input) {
+    public static int readAsBytes(InputStream stream, long offset, ByteBuffer buffer) {
         // 校验输入参数
-        if (input == null || input.isEmpty()) {
-            return new byte[0];
+        if (stream == null) {
+            System.err.println("BaseIOUtil - InputStream is null!");
+            return -1;
         }
 
-        // 计算元素总数并过滤空值
-        int validCount = 0;
-        List<byte[]> listNonNull = new ArrayList<>();
-        for (byte[] item : input) {
-            if (item != null) {
-                validCount += item.length;
-                listNonNull.add(item);
-            }
+        if (buffer == null || buffer.isReadOnly()) {
+            System.err.println("BaseIOUtil - Buffer is null or read only!");
+            return -1;
         }
 
-        // 合并结果
-        byte[] result = new byte[validCount];
-        int position = 0;
-        for (byte[] item : listNonNull) {
-            System.arraycopy(item, 0, result, position, item.length);
-            // 这里是当前数组的长度，比Index多一位，因此下一轮会从有效数据后一位开始填充，无需手动+1。
-            position += item.length;
+        if (offset < 0L) {
+            System.err.println("BaseIOUtil - Offset or length value invalid!");
+            return -1;
         }
 
-        return result;
+        long startTime = System.nanoTime();
+        try (
+                InputStream input = stream
+        ) {
+            // 忽略指定长度的数据
+            if (skipFully(input, offset) < offset) {
+                recordCompleted("BaseIOUtil.readAsBytes", startTime, 0L, 0L, 0);
+                return 0;
+            }
+
+            int total = 0;
+            if (buffer.hasArray()) {
+                // 堆内存Buffer：直接读取至底层数组
+                byte[] array = buffer.array();
+                while (buffer.hasRemaining()) {
+                    int count = input.read(array, buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                    if (count == -1) {
+                        break;
+                    }
+                    buffer.position(buffer.position() + count);
+                    total += count;
+                }
+            } else {
+                // 直接内存Buffer：通过通道读取
+                ReadableByteChannel channel = Channels.newChannel(input);
+                while (buffer.hasRemaining()) {
+                    int count = channel.read(buffer);
+                    if (count == -1) {
+                        break;
+                    }
+                    total += count;
+                }
+            }
+
+            recordCompleted("BaseIOUtil.readAsBytes", startTime, total, 0L, 0);
+            return total;
+        } catch (IOException e) {
+            System.err.println("BaseIOUtil - Read stream to buffer failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("BaseIOUtil.readAsBytes", startTime, e);
+        }
+
+        return -1;
+    }
+
+    /**
+     * 从输入流读取二进制数据至Buffer中。
+     * <p>
+     * 该方法将读取数据直至Buffer被填满或到达流的末尾。
+     * <p>
+     * 读取完毕后Buffer的"position"将前移读取的字节数，调用者发送数据前需要自行调用 {@link ByteBuffer#flip()} 方法。
+     * <p>
+     * 操作完毕后输入流将被关闭；遇到异常时默认返回"-1"。
+     *
+     * @param stream 输入流。
+     * @param buffer 接收数据的Buffer，可以是堆内存或直接内存Buffer。
+     * @return 读取的字节数。读取失败时返回"-1"。
+     */
+    public static int readAsBytes(InputStream stream, ByteBuffer buffer) {
+        return readAsBytes(stream, 0L, buffer);
     }
 }
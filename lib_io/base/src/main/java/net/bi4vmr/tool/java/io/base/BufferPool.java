@@ -0,0 +1,266 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 缓冲区池。
+ * <p>
+ * 按照 {@link IOUtil} 中的常用缓冲区大小划分容量等级，分别缓存堆内数组与堆外Buffer，供各个输入与输出方法复用，避免每次调用都分配新的
+ * 缓冲区。申请的容量不属于任何等级时，将向上取整至最接近的等级；超过最大等级时直接分配新的缓冲区，且归还时不会被缓存。
+ * <p>
+ * 池中保留的缓冲区总容量存在上限，超出上限时归还的缓冲区将被丢弃，交由GC回收。
+ * <p>
+ * 该类是线程安全的。调用者从池中获取缓冲区后，必须在使用完毕时归还且只能归还一次，归还后不得继续使用。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public final class BufferPool {
+
+    /**
+     * 容量等级，与 {@link IOUtil} 中的常用缓冲区大小一致。
+     */
+    private static final int[] SIZE_CLASSES = {
+            IOUtil.BUFFER_SIZE_8KB,
+            IOUtil.BUFFER_SIZE_128KB,
+            IOUtil.BUFFER_SIZE_256KB,
+            IOUtil.BUFFER_SIZE_512KB,
+            IOUtil.BUFFER_SIZE_1MB,
+            IOUtil.BUFFER_SIZE_4MB,
+            IOUtil.BUFFER_SIZE_8MB,
+            IOUtil.BUFFER_SIZE_32MB
+    };
+
+    private final long maxHeapBytes;
+    private final long maxDirectBytes;
+
+    private final ConcurrentLinkedDeque<byte[]>[] heapBuffers;
+    private final ConcurrentLinkedDeque<ByteBuffer>[] directBuffers;
+
+    private final AtomicLong heapRetained = new AtomicLong();
+    private final AtomicLong directRetained = new AtomicLong();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * 构造方法。
+     *
+     * @param maxHeapBytes   池中保留的堆内缓冲区总容量上限（字节）。
+     * @param maxDirectBytes 池中保留的堆外缓冲区总容量上限（字节）。
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public BufferPool(long maxHeapBytes, long maxDirectBytes) {
+        if (maxHeapBytes < 0L || maxDirectBytes < 0L) {
+            throw new IllegalArgumentException("Max retained bytes must >= 0!");
+        }
+
+        this.maxHeapBytes = maxHeapBytes;
+        this.maxDirectBytes = maxDirectBytes;
+        this.heapBuffers = new ConcurrentLinkedDeque[SIZE_CLASSES.length];
+        this.directBuffers = new ConcurrentLinkedDeque[SIZE_CLASSES.length];
+        for (int i = 0; i < SIZE_CLASSES.length; i++) {
+            heapBuffers[i] = new ConcurrentLinkedDeque<>();
+            directBuffers[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    /**
+     * 获取堆内缓冲区。
+     * <p>
+     * 返回的数组长度可能大于申请的容量，调用者应当以申请的容量为准进行读写。
+     *
+     * @param size 所需容量（字节）。
+     * @return 字节数组，内容未被清空。
+     */
+    public byte[] acquire(int size) {
+        int index = indexOf(size);
+        if (index < 0) {
+            missCount.incrementAndGet();
+            return new byte[size];
+        }
+
+        byte[] buffer = heapBuffers[index].pollFirst();
+        if (buffer == null) {
+            missCount.incrementAndGet();
+            return new byte[SIZE_CLASSES[index]];
+        }
+
+        heapRetained.addAndGet(-buffer.length);
+        hitCount.incrementAndGet();
+        return buffer;
+    }
+
+    /**
+     * 归还堆内缓冲区。
+     *
+     * @param buffer 通过 {@link #acquire(int)} 方法获取的字节数组。
+     */
+    public void release(byte[] buffer) {
+        if (buffer == null) {
+            return;
+        }
+
+        int index = indexOfExact(buffer.length);
+        if (index < 0 || !reserve(heapRetained, buffer.length, maxHeapBytes)) {
+            return;
+        }
+
+        heapBuffers[index].offerFirst(buffer);
+    }
+
+    /**
+     * 获取堆外缓冲区。
+     * <p>
+     * 返回的Buffer已被清空，"limit"为申请的容量，"capacity"可能大于申请的容量。
+     *
+     * @param size 所需容量（字节）。
+     * @return 堆外Buffer。
+     */
+    public ByteBuffer acquireDirect(int size) {
+        int index = indexOf(size);
+        ByteBuffer buffer = null;
+        if (index >= 0) {
+            buffer = directBuffers[index].pollFirst();
+        }
+
+        if (buffer == null) {
+            missCount.incrementAndGet();
+            buffer = ByteBuffer.allocateDirect(index >= 0 ? SIZE_CLASSES[index] : size);
+        } else {
+            directRetained.addAndGet(-buffer.capacity());
+            hitCount.incrementAndGet();
+        }
+
+        buffer.clear();
+        buffer.limit(size);
+        return buffer;
+    }
+
+    /**
+     * 归还堆外缓冲区。
+     *
+     * @param buffer 通过 {@link #acquireDirect(int)} 方法获取的Buffer。
+     */
+    public void releaseDirect(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect()) {
+            return;
+        }
+
+        int index = indexOfExact(buffer.capacity());
+        if (index < 0 || !reserve(directRetained, buffer.capacity(), maxDirectBytes)) {
+            return;
+        }
+
+        buffer.clear();
+        directBuffers[index].offerFirst(buffer);
+    }
+
+    /**
+     * 清空池中保留的所有缓冲区。
+     */
+    public void clear() {
+        for (int i = 0; i < SIZE_CLASSES.length; i++) {
+            byte[] buffer;
+            while ((buffer = heapBuffers[i].pollFirst()) != null) {
+                heapRetained.addAndGet(-buffer.length);
+            }
+
+            ByteBuffer direct;
+            while ((direct = directBuffers[i].pollFirst()) != null) {
+                directRetained.addAndGet(-direct.capacity());
+            }
+        }
+    }
+
+    /**
+     * 获取命中次数。
+     *
+     * @return 从池中取得已有缓冲区的次数。
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * 获取未命中次数。
+     *
+     * @return 因池中没有可用缓冲区而新分配的次数。
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * 获取池中保留的堆内缓冲区总容量。
+     *
+     * @return 容量（字节）。
+     */
+    public long getRetainedHeapBytes() {
+        return heapRetained.get();
+    }
+
+    /**
+     * 获取池中保留的堆外缓冲区总容量。
+     *
+     * @return 容量（字节）。
+     */
+    public long getRetainedDirectBytes() {
+        return directRetained.get();
+    }
+
+    /**
+     * 查找能够容纳指定容量的最小等级。
+     *
+     * @param size 所需容量（字节）。
+     * @return 等级索引，超过最大等级时返回"-1"。
+     */
+    private static int indexOf(int size) {
+        for (int i = 0; i < SIZE_CLASSES.length; i++) {
+            if (size <= SIZE_CLASSES[i]) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * 查找与指定容量完全一致的等级。
+     *
+     * @param size 容量（字节）。
+     * @return 等级索引，不属于任何等级时返回"-1"。
+     */
+    private static int indexOfExact(int size) {
+        for (int i = 0; i < SIZE_CLASSES.length; i++) {
+            if (size == SIZE_CLASSES[i]) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * 尝试占用保留容量。
+     *
+     * @param retained 当前保留的容量。
+     * @param size     待占用的容量。
+     * @param max      容量上限。
+     * @return "true"表示占用成功；"false"表示超出上限。
+     */
+    private static boolean reserve(AtomicLong retained, long size, long max) {
+        while (true) {
+            long current = retained.get();
+            if (current + size > max) {
+                return false;
+            }
+
+            if (retained.compareAndSet(current, current + size)) {
+                return true;
+            }
+        }
+    }
+}
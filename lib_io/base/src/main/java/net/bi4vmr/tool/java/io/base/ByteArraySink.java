@@ -0,0 +1,169 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 可增长的字节数组容器。
+ * <p>
+ * 数据被直接读取至单个内部数组中，容量不足时按倍数扩容。如果初始容量与实际数据量相符，整个读取过程只需分配一次内存，且
+ * {@link #toByteArray()} 方法将直接返回内部数组，不再复制。
+ * <p>
+ * 该类不是线程安全的。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public final class ByteArraySink {
+
+    /**
+     * 数组的最大容量。
+     * <p>
+     * 部分虚拟机会在数组中保留头部信息，申请接近"Integer.MAX_VALUE"的容量可能导致内存溢出。
+     */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * 扩容时的最小容量：8KB。
+     */
+    private static final int MIN_GROW_CAPACITY = 8 * 1024;
+
+    private byte[] buffer;
+    private int size = 0;
+
+    /**
+     * 构造方法。
+     *
+     * @param initialCapacity 初始容量（字节）。
+     */
+    public ByteArraySink(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must >= 0!");
+        }
+
+        this.buffer = new byte[Math.min(initialCapacity, MAX_CAPACITY)];
+    }
+
+    /**
+     * 获取已写入的字节数。
+     *
+     * @return 字节数。
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 获取当前容量。
+     *
+     * @return 容量（字节）。
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * 写入数据。
+     *
+     * @param data   数据源。
+     * @param offset 数据源的起始位置。
+     * @param length 写入字节数。
+     */
+    public void write(byte[] data, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > data.length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        ensureCapacity(size + length, MAX_CAPACITY);
+        System.arraycopy(data, offset, buffer, size, length);
+        size += length;
+    }
+
+    /**
+     * 从输入流读取数据并直接写入内部数组。
+     * <p>
+     * 持续读取至输入流末尾，或已读取第二参数"maxLength"指定的字节数为止。内部数组已满时，先尝试读取一个字节确认是否已到达末尾，避免
+     * 数据量恰好等于容量时进行无意义的扩容。
+     *
+     * @param stream    输入流。
+     * @param maxLength 最多读取的字节数。
+     * @return 本次读取的字节数。
+     * @throws IOException 读取失败。
+     */
+    public int readFrom(InputStream stream, int maxLength) throws IOException {
+        int limit = (int) Math.min((long) size + maxLength, MAX_CAPACITY);
+        int start = size;
+        while (size < limit) {
+            if (size == buffer.length) {
+                // 内部数组已满，探测是否还有数据。
+                int b = stream.read();
+                if (b == -1) {
+                    break;
+                }
+
+                ensureCapacity(size + 1, limit);
+                buffer[size++] = (byte) b;
+                continue;
+            }
+
+            int count = stream.read(buffer, size, Math.min(buffer.length, limit) - size);
+            if (count == -1) {
+                break;
+            }
+            size += count;
+        }
+
+        return size - start;
+    }
+
+    /**
+     * 获取字节数组。
+     * <p>
+     * 内部数组恰好被写满时将直接返回该数组，否则返回截取有效部分后的副本。
+     *
+     * @return 字节数组。
+     */
+    public byte[] toByteArray() {
+        if (size == buffer.length) {
+            return buffer;
+        }
+
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * 获取包装内部数组的ByteBuffer。
+     * <p>
+     * 不会复制数据，Buffer的"limit"为已写入的字节数。后续写入操作可能导致扩容，此后Buffer与容器将不再共享数据。
+     *
+     * @return ByteBuffer。
+     */
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(buffer, 0, size);
+    }
+
+    /**
+     * 确保容量不小于指定值。
+     * <p>
+     * 扩容时容量至少翻倍，但不会超过第二参数"maxCapacity"。
+     *
+     * @param minCapacity 所需的最小容量。
+     * @param maxCapacity 容量上限。
+     */
+    private void ensureCapacity(int minCapacity, int maxCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array size too large!");
+        }
+
+        if (minCapacity <= buffer.length) {
+            return;
+        }
+
+        long newCapacity = Math.max((long) buffer.length * 2, MIN_GROW_CAPACITY);
+        newCapacity = Math.min(newCapacity, maxCapacity);
+        newCapacity = Math.max(newCapacity, minCapacity);
+        buffer = Arrays.copyOf(buffer, (int) newCapacity);
+    }
+}
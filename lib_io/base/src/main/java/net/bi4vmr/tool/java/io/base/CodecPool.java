@@ -0,0 +1,99 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 压缩器与解压器池。
+ * <p>
+ * {@link Inflater} 与 {@link Deflater} 持有本地内存，创建与销毁的开销较大，因此使用完毕后重置并放回池中复用。池中的实例均为原始Deflate
+ * 格式（"nowrap"），GZIP的文件头与校验由调用者自行处理。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+final class CodecPool {
+
+    /**
+     * 每种实例最多保留的数量。
+     */
+    private static final int MAX_RETAINED = Runtime.getRuntime().availableProcessors() * 2;
+
+    private static final Queue<Inflater> INFLATERS = new ConcurrentLinkedQueue<>();
+    private static final Queue<Deflater> DEFLATERS = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger INFLATER_COUNT = new AtomicInteger();
+    private static final AtomicInteger DEFLATER_COUNT = new AtomicInteger();
+
+    private CodecPool() {
+    }
+
+    /**
+     * 获取解压器。
+     *
+     * @return 原始Deflate格式的解压器。
+     */
+    static Inflater acquireInflater() {
+        Inflater inflater = INFLATERS.poll();
+        if (inflater == null) {
+            return new Inflater(true);
+        }
+
+        INFLATER_COUNT.decrementAndGet();
+        return inflater;
+    }
+
+    /**
+     * 归还解压器。
+     *
+     * @param inflater 通过 {@link #acquireInflater()} 方法获取的解压器。
+     */
+    static void releaseInflater(Inflater inflater) {
+        if (INFLATER_COUNT.incrementAndGet() > MAX_RETAINED) {
+            INFLATER_COUNT.decrementAndGet();
+            inflater.end();
+            return;
+        }
+
+        inflater.reset();
+        INFLATERS.offer(inflater);
+    }
+
+    /**
+     * 获取压缩器。
+     *
+     * @param level    压缩级别，取值范围为"-1"至"9"，参见 {@link Deflater#setLevel(int)} 。
+     * @param strategy 压缩策略，参见 {@link Deflater#setStrategy(int)} 。
+     * @return 原始Deflate格式的压缩器。
+     */
+    static Deflater acquireDeflater(int level, int strategy) {
+        Deflater deflater = DEFLATERS.poll();
+        if (deflater == null) {
+            deflater = new Deflater(level, true);
+        } else {
+            DEFLATER_COUNT.decrementAndGet();
+            deflater.setLevel(level);
+        }
+
+        deflater.setStrategy(strategy);
+        return deflater;
+    }
+
+    /**
+     * 归还压缩器。
+     *
+     * @param deflater 通过 {@link #acquireDeflater(int, int)} 方法获取的压缩器。
+     */
+    static void releaseDeflater(Deflater deflater) {
+        if (DEFLATER_COUNT.incrementAndGet() > MAX_RETAINED) {
+            DEFLATER_COUNT.decrementAndGet();
+            deflater.end();
+            return;
+        }
+
+        deflater.reset();
+        DEFLATERS.offer(deflater);
+    }
+}
@@ -0,0 +1,217 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.zip.CRC32;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * 解压输入流。
+ * <p>
+ * 支持GZIP与原始Deflate格式。与 {@link java.util.zip.GZIPInputStream} 不同，解压器从 {@link CodecPool} 获取并在关闭时归还，缓冲区
+ * 大小也可以自行指定。GZIP格式将校验CRC32与原始长度，并支持多个成员首尾相接的文件。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public final class CompressedInputStream extends InflaterInputStream {
+
+    private static final int GZIP_MAGIC = 0x8B1F;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private final Compression compression;
+    private final CRC32 crc = new CRC32();
+    private long memberSize = 0L;
+    private boolean eos = false;
+    private boolean released = false;
+
+    /**
+     * 构造方法。
+     *
+     * @param in          压缩数据的输入流，关闭本实例时将被一同关闭。
+     * @param compression 压缩格式。
+     * @param bufferSize  输入缓冲区大小（字节）。
+     * @throws IOException 读取GZIP文件头失败，或文件头格式错误。
+     */
+    public CompressedInputStream(InputStream in, Compression compression, int bufferSize) throws IOException {
+        super(in, CodecPool.acquireInflater(), bufferSize);
+        this.compression = compression;
+        if (compression == Compression.GZIP) {
+            try {
+                readHeader(in);
+            } catch (IOException e) {
+                release();
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (eos) {
+            return -1;
+        }
+
+        while (true) {
+            int count = super.read(b, off, len);
+            if (count != -1) {
+                if (compression == Compression.GZIP) {
+                    crc.update(b, off, count);
+                    memberSize += count;
+                }
+                return count;
+            }
+
+            // 当前数据流已结束，GZIP格式需要校验尾部，并检查是否存在下一个成员。
+            if (compression != Compression.GZIP || readTrailer()) {
+                eos = true;
+                return -1;
+            }
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        return eos ? 0 : super.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            eos = true;
+            release();
+        }
+    }
+
+    /**
+     * 归还解压器。
+     */
+    private void release() {
+        if (!released) {
+            released = true;
+            CodecPool.releaseInflater(inf);
+        }
+    }
+
+    /**
+     * 读取GZIP尾部并校验数据。
+     *
+     * @return "true"表示已到达末尾；"false"表示存在下一个成员，可以继续读取。
+     * @throws IOException 读取失败，或校验失败。
+     */
+    private boolean readTrailer() throws IOException {
+        // 解压器中剩余的输入数据从尾部开始
+        int remaining = inf.getRemaining();
+        InputStream input = in;
+        if (remaining > 0) {
+            input = new SequenceInputStream(new ByteArrayInputStream(buf, len - remaining, remaining), in);
+        }
+
+        if (readUInt(input) != crc.getValue() || readUInt(input) != (memberSize & 0xFFFFFFFFL)) {
+            throw new ZipException("Corrupt GZIP trailer");
+        }
+
+        // 缓冲区中仍有数据，或底层输入流仍有数据时，尝试读取下一个成员。
+        if (in.available() > 0 || remaining > 8) {
+            int headerSize;
+            try {
+                headerSize = readHeader(input);
+            } catch (IOException e) {
+                // 剩余数据不是GZIP成员，忽略。
+                return true;
+            }
+
+            inf.reset();
+            int consumed = 8 + headerSize;
+            if (remaining > consumed) {
+                inf.setInput(buf, len - remaining + consumed, remaining - consumed);
+            }
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * 读取GZIP文件头。
+     *
+     * @param input 输入流。
+     * @return 文件头的长度（字节）。
+     * @throws IOException 读取失败，或文件头格式错误。
+     */
+    private int readHeader(InputStream input) throws IOException {
+        crc.reset();
+        memberSize = 0L;
+
+        if (readUShort(input) != GZIP_MAGIC) {
+            throw new ZipException("Not in GZIP format");
+        }
+
+        if (readUByte(input) != 8) {
+            throw new ZipException("Unsupported compression method");
+        }
+
+        int flags = readUByte(input);
+        // 跳过修改时间（4字节）、额外标记（1字节）与操作系统（1字节）
+        skipBytes(input, 6);
+        int size = 10;
+
+        if ((flags & FEXTRA) == FEXTRA) {
+            int extraLength = readUShort(input);
+            skipBytes(input, extraLength);
+            size += extraLength + 2;
+        }
+
+        if ((flags & FNAME) == FNAME) {
+            do {
+                size++;
+            } while (readUByte(input) != 0);
+        }
+
+        if ((flags & FCOMMENT) == FCOMMENT) {
+            do {
+                size++;
+            } while (readUByte(input) != 0);
+        }
+
+        if ((flags & FHCRC) == FHCRC) {
+            skipBytes(input, 2);
+            size += 2;
+        }
+
+        return size;
+    }
+
+    private static long readUInt(InputStream input) throws IOException {
+        long low = readUShort(input);
+        return ((long) readUShort(input) << 16) | low;
+    }
+
+    private static int readUShort(InputStream input) throws IOException {
+        int low = readUByte(input);
+        return (readUByte(input) << 8) | low;
+    }
+
+    private static int readUByte(InputStream input) throws IOException {
+        int b = input.read();
+        if (b == -1) {
+            throw new EOFException("Unexpected end of GZIP stream");
+        }
+        return b;
+    }
+
+    private static void skipBytes(InputStream input, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            readUByte(input);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * 压缩输出流。
+ * <p>
+ * 支持GZIP与原始Deflate格式。与 {@link java.util.zip.GZIPOutputStream} 不同，压缩器从 {@link CodecPool} 获取并在关闭时归还，压缩级别、
+ * 压缩策略与缓冲区大小均可以自行指定。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public final class CompressedOutputStream extends DeflaterOutputStream {
+
+    /**
+     * GZIP文件头：魔数、压缩方法（Deflate）、标记、修改时间、额外标记与操作系统（未知）。
+     */
+    private static final byte[] GZIP_HEADER = {
+            (byte) 0x1F, (byte) 0x8B, 8, 0, 0, 0, 0, 0, 0, (byte) 0xFF
+    };
+
+    private final Compression compression;
+    private final CRC32 crc = new CRC32();
+    private long size = 0L;
+    private boolean finished = false;
+    private boolean released = false;
+
+    /**
+     * 构造方法。
+     *
+     * @param out         输出流，关闭本实例时将被一同关闭。
+     * @param compression 压缩格式。
+     * @param level       压缩级别，取值范围为"-1"至"9"，参见 {@link Deflater#setLevel(int)} 。
+     * @param strategy    压缩策略，参见 {@link Deflater#setStrategy(int)} 。
+     * @param bufferSize  输出缓冲区大小（字节）。
+     * @throws IOException 写入GZIP文件头失败。
+     */
+    public CompressedOutputStream(OutputStream out, Compression compression, int level, int strategy, int bufferSize)
+            throws IOException {
+        super(out, CodecPool.acquireDeflater(level, strategy), bufferSize);
+        this.compression = compression;
+        if (compression == Compression.GZIP) {
+            try {
+                out.write(GZIP_HEADER);
+            } catch (IOException e) {
+                release();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 构造方法。
+     * <p>
+     * 默认使用默认压缩级别与默认压缩策略。
+     *
+     * @param out         输出流，关闭本实例时将被一同关闭。
+     * @param compression 压缩格式。
+     * @param bufferSize  输出缓冲区大小（字节）。
+     * @throws IOException 写入GZIP文件头失败。
+     */
+    public CompressedOutputStream(OutputStream out, Compression compression, int bufferSize) throws IOException {
+        this(out, compression, Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY, bufferSize);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        super.write(b, off, len);
+        if (compression == Compression.GZIP) {
+            crc.update(b, off, len);
+            size += len;
+        }
+    }
+
+    /**
+     * 完成压缩，写入剩余数据以及GZIP尾部，但不关闭输出流。
+     *
+     * @throws IOException 写入失败。
+     */
+    @Override
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+
+        super.finish();
+        finished = true;
+        if (compression == Compression.GZIP) {
+            byte[] trailer = new byte[8];
+            writeInt(trailer, 0, crc.getValue());
+            writeInt(trailer, 4, size & 0xFFFFFFFFL);
+            out.write(trailer);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } catch (IOException e) {
+            // 写入尾部失败时，父类不会关闭输出流。
+            IOUtil.closeSilently(out);
+            throw e;
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * 归还压缩器。
+     */
+    private void release() {
+        if (!released) {
+            released = true;
+            CodecPool.releaseDeflater(def);
+        }
+    }
+
+    /**
+     * 以小端字节序写入4字节整数。
+     */
+    private static void writeInt(byte[] target, int offset, long value) {
+        target[offset] = (byte) value;
+        target[offset + 1] = (byte) (value >> 8);
+        target[offset + 2] = (byte) (value >> 16);
+        target[offset + 3] = (byte) (value >> 24);
+    }
+}
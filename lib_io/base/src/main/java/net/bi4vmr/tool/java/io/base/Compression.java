@@ -0,0 +1,20 @@
+package net.bi4vmr.tool.java.io.base;
+
+/**
+ * 压缩格式。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public enum Compression {
+
+    /**
+     * GZIP格式（RFC 1952），即Deflate数据外加文件头与CRC32校验。
+     */
+    GZIP,
+
+    /**
+     * 原始Deflate格式（RFC 1951），不包含任何文件头与校验信息。
+     */
+    DEFLATE
+}
@@ -0,0 +1,21 @@
+package net.bi4vmr.tool.java.io.base;
+
+/**
+ * 复制进度监听器。
+ * <p>
+ * 并行复制时，该监听器将在多个工作线程中被调用，实现类需要自行保证线程安全。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface CopyProgressListener {
+
+    /**
+     * 复制进度更新。
+     *
+     * @param copiedBytes 已复制的字节数。
+     * @param totalBytes  需要复制的总字节数。
+     */
+    void onProgress(long copiedBytes, long totalBytes);
+}
@@ -0,0 +1,221 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 目录遍历器。
+ * <p>
+ * 通过 {@link Files#walkFileTree} 遍历目录树，将符合条件的文件交给线程池并行处理。遍历在调用者线程中进行，同时处理中以及等待处理的
+ * 文件数量有上限，处理速度较慢时遍历将被阻塞，不会在内存中堆积大量任务。
+ * <p>
+ * 文件可以通过Glob表达式及长度范围进行过滤。Glob表达式将与文件相对于根目录的路径进行匹配，例如"**&#47;*.log"；表达式不包含路径分隔符
+ * 时，将只与文件名进行匹配，例如"*.log"将匹配任意层级中的日志文件。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public final class DirectoryWalker {
+
+    private final File root;
+    private final PathMatcher matcher;
+    private final boolean matchFileName;
+    private final long minSize;
+    private final long maxSize;
+    private final boolean followLinks;
+
+    /**
+     * 构造方法。
+     *
+     * @param root        根目录。
+     * @param glob        Glob表达式，为空值时匹配所有文件。
+     * @param minSize     文件长度的下限（字节，包含）。
+     * @param maxSize     文件长度的上限（字节，包含）。
+     * @param followLinks 是否跟随符号链接。
+     */
+    public DirectoryWalker(File root, String glob, long minSize, long maxSize, boolean followLinks) {
+        if (root == null) {
+            throw new IllegalArgumentException("Root directory is null!");
+        }
+
+        if (minSize < 0L || maxSize < minSize) {
+            throw new IllegalArgumentException("Size range invalid!");
+        }
+
+        this.root = root;
+        if (glob == null || glob.isEmpty()) {
+            this.matcher = null;
+            this.matchFileName = false;
+        } else {
+            this.matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+            this.matchFileName = glob.indexOf('/') < 0 && glob.indexOf(File.separatorChar) < 0;
+        }
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.followLinks = followLinks;
+    }
+
+    /**
+     * 构造方法。
+     * <p>
+     * 不限制文件长度，不跟随符号链接。
+     *
+     * @param root 根目录。
+     * @param glob Glob表达式，为空值时匹配所有文件。
+     */
+    public DirectoryWalker(File root, String glob) {
+        this(root, glob, 0L, Long.MAX_VALUE, false);
+    }
+
+    /**
+     * 遍历目录并并行处理文件。
+     * <p>
+     * 该方法将阻塞至所有文件处理完毕。处理失败的文件以及无法访问的目录将被记录并跳过。
+     * <p>
+     * 使用外部线程池时，同时执行的处理器数量同样不超过"parallelism"，超出的任务将在线程池的线程中等待，因此线程池的线程数量不宜远超过
+     * "parallelism"与"queueSize"之和。
+     *
+     * @param consumer    文件处理器。
+     * @param executor    线程池，例如 {@link java.util.concurrent.ForkJoinPool} 。为空值时将创建拥有"parallelism"个线程的临时线程池。
+     * @param parallelism 同时处理的文件数量上限。
+     * @param queueSize   等待处理的文件数量上限，达到上限后遍历将被阻塞。
+     * @return 处理成功的文件数量。参数错误时返回"-1"。
+     */
+    public long walk(FileConsumer consumer, ExecutorService executor, int parallelism, int queueSize) {
+        // 校验输入参数
+        if (consumer == null) {
+            System.err.println("DirectoryWalker - Consumer is null!");
+            return -1L;
+        }
+
+        if (parallelism <= 0 || queueSize < 0) {
+            System.err.println("DirectoryWalker - Parallelism must > 0 and queue size must >= 0!");
+            return -1L;
+        }
+
+        if (!root.isDirectory()) {
+            System.err.println("DirectoryWalker - Root is not a directory!");
+            return -1L;
+        }
+
+        boolean ownExecutor = executor == null;
+        ExecutorService pool = ownExecutor ? Executors.newFixedThreadPool(parallelism) : executor;
+        int permits = parallelism + queueSize;
+        Semaphore slots = new Semaphore(permits);
+        // 已提交的任务最多有"parallelism + queueSize"个，外部线程池可能同时执行所有任务，因此单独限制执行中的任务数量。
+        Semaphore running = new Semaphore(parallelism);
+        AtomicLong processed = new AtomicLong();
+        Path rootPath = root.toPath();
+        try {
+            Set<FileVisitOption> options = followLinks
+                    ? EnumSet.of(FileVisitOption.FOLLOW_LINKS)
+                    : Collections.<FileVisitOption>emptySet();
+            Files.walkFileTree(rootPath, options, Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (!attrs.isRegularFile() || !accept(rootPath, file, attrs.size())) {
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    try {
+                        slots.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return FileVisitResult.TERMINATE;
+                    }
+
+                    long size = attrs.size();
+                    try {
+                        pool.execute(() -> {
+                            running.acquireUninterruptibly();
+                            try {
+                                consumer.accept(file.toFile(), size);
+                                processed.incrementAndGet();
+                            } catch (Exception e) {
+                                System.err.println("DirectoryWalker - Process file failed! File:[" + file
+                                        + "] Reason:[" + e.getMessage() + "]");
+                            } finally {
+                                running.release();
+                                slots.release();
+                            }
+                        });
+                    } catch (RejectedExecutionException e) {
+                        slots.release();
+                        System.err.println("DirectoryWalker - Executor rejected task! Reason:[" + e.getMessage() + "]");
+                        return FileVisitResult.TERMINATE;
+                    }
+
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    System.err.println("DirectoryWalker - Visit file failed! File:[" + file + "] Reason:["
+                            + e.getMessage() + "]");
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            System.err.println("DirectoryWalker - Walk directory failed! Reason:[" + e.getMessage() + "]");
+        } finally {
+            // 取回所有许可，即等待所有已提交的任务执行完毕。
+            slots.acquireUninterruptibly(permits);
+            if (ownExecutor) {
+                pool.shutdown();
+            }
+        }
+
+        return processed.get();
+    }
+
+    /**
+     * 遍历目录并并行处理文件。
+     * <p>
+     * 默认使用CPU核心数作为并行数量，等待处理的文件数量上限为并行数量的两倍。
+     *
+     * @param consumer 文件处理器。
+     * @param executor 线程池，为空值时将创建临时线程池。
+     * @return 处理成功的文件数量。参数错误时返回"-1"。
+     */
+    public long walk(FileConsumer consumer, ExecutorService executor) {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        return walk(consumer, executor, parallelism, parallelism * 2);
+    }
+
+    /**
+     * 判断文件是否符合过滤条件。
+     *
+     * @param rootPath 根目录。
+     * @param file     文件。
+     * @param size     文件长度（字节）。
+     * @return "true"表示符合；"false"表示不符合。
+     */
+    private boolean accept(Path rootPath, Path file, long size) {
+        if (size < minSize || size > maxSize) {
+            return false;
+        }
+
+        if (matcher == null) {
+            return true;
+        }
+
+        Path target = matchFileName ? file.getFileName() : rootPath.relativize(file);
+        return target != null && matcher.matches(target);
+    }
+}
@@ -0,0 +1,26 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.io.File;
+
+/**
+ * 文件处理器。
+ * <p>
+ * 并行遍历目录时，该处理器将在多个工作线程中被调用，实现类需要自行保证线程安全。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface FileConsumer {
+
+    /**
+     * 处理文件。
+     * <p>
+     * 抛出的异常将被记录并忽略，不会中断遍历过程。
+     *
+     * @param file 文件。
+     * @param size 文件长度（字节）。
+     * @throws Exception 处理失败。
+     */
+    void accept(File file, long size) throws Exception;
+}
@@ -1,8 +1,29 @@
 package net.bi4vmr.tool.java.io.base;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
 
 /**
  * 文件输入与输出工具。
@@ -12,6 +33,16 @@ import java.util.Arrays;
  */
 public class FileIOUtil extends IOUtil {
 
+    /**
+     * 批量读取时，间隔不超过该值的相邻区域将被合并读取：4KB。
+     */
+    private static final int RANGE_MERGE_GAP = 4 * 1024;
+
+    /**
+     * 解压文件时预先分配的结果数组容量上限：64MB。
+     */
+    private static final int UNCOMPRESSED_ESTIMATE_MAX = 64 * 1024 * 1024;
+
     /*
      * ----- 从文件读取二进制数据 -----
      */
@@ -49,6 +80,7 @@ public class FileIOUtil extends IOUtil {
             length = (int) maxLength;
         }
 
+        long startTime = System.nanoTime();
         byte[] buffer = new byte[length];
         try (
                 RandomAccessFile accessor = new RandomAccessFile(file, "r");
@@ -62,9 +94,11 @@ public class FileIOUtil extends IOUtil {
                 buffer = Arrays.copyOf(buffer, count);
             }
 
+            recordCompleted("FileIOUtil.readAsBytes", startTime, buffer.length, 0L, 0);
             return buffer;
         } catch (IOException e) {
             System.err.println("FileIOUtil - Read file as bytes failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("FileIOUtil.readAsBytes", startTime, e);
         }
 
         return new byte[0];
@@ -101,6 +135,286 @@ public class FileIOUtil extends IOUtil {
         return readAsBytes(file, 0L, Integer.MAX_VALUE);
     }
 
+    /**
+     * 从文件读取二进制数据至Buffer中。
+     * <p>
+     * 该方法将从第二参数"offset"指定位置开始，读取数据直至Buffer被填满或到达文件末尾。数据通过
+     * {@link FileChannel#read(ByteBuffer, long)} 直接写入Buffer，目标为直接内存Buffer时无需经过堆内存中转，可以直接交给网络通道发送。
+     * <p>
+     * 读取完毕后Buffer的"position"将前移读取的字节数，调用者发送数据前需要自行调用 {@link ByteBuffer#flip()} 方法。
+     *
+     * @param file   目标文件。
+     * @param offset 起始位置（从0开始计数）。
+     * @param buffer 接收数据的Buffer，可以是堆内存或直接内存Buffer。
+     * @return 读取的字节数。起始位置超出文件末尾时返回"0"；读取失败时返回"-1"。
+     */
+    public static int readAsBytes(File file, long offset, ByteBuffer buffer) {
+        // 校验文件是否可读
+        if (file == null || !file.exists() || file.isDirectory() || !file.canRead()) {
+            System.err.println("FileIOUtil - File not exist or no permission to read!");
+            return -1;
+        }
+
+        // 校验输入参数
+        if (buffer == null || buffer.isReadOnly()) {
+            System.err.println("FileIOUtil - Buffer is null or read only!");
+            return -1;
+        }
+
+        if (offset < 0L) {
+            System.err.println("FileIOUtil - Offset or length value invalid!");
+            return -1;
+        }
+
+        long startTime = System.nanoTime();
+        try (
+                FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)
+        ) {
+            int count = (int) positionalRead(channel, new FileRange(offset, buffer.remaining()), buffer);
+            recordCompleted("FileIOUtil.readAsBytes", startTime, count, 0L, 0);
+            return count;
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Read file to buffer failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("FileIOUtil.readAsBytes", startTime, e);
+        }
+
+        return -1;
+    }
+
+    /**
+     * 从文件读取二进制数据至Buffer中。
+     * <p>
+     * 该方法将从文件起始位置开始，读取数据直至Buffer被填满或到达文件末尾。
+     * <p>
+     * 读取完毕后Buffer的"position"将前移读取的字节数，调用者发送数据前需要自行调用 {@link ByteBuffer#flip()} 方法。
+     *
+     * @param file   目标文件。
+     * @param buffer 接收数据的Buffer，可以是堆内存或直接内存Buffer。
+     * @return 读取的字节数。读取失败时返回"-1"。
+     */
+    public static int readAsBytes(File file, ByteBuffer buffer) {
+        return readAsBytes(file, 0L, buffer);
+    }
+
+
+    /*
+     * ----- 以内存映射方式读取文件 -----
+     */
+
+    /**
+     * 以内存映射方式读取文件。
+     * <p>
+     * 该方法将从第二参数"offset"指定位置开始，映射第三参数"length"指定长度的数据，返回只读的 {@link ByteBuffer} 视图。数据位于堆外
+     * 内存中，读取时不会复制到堆内存，适合从大文件中反复读取部分区域的场景。
+     * <p>
+     * 映射区域将按文件进行缓存，再次读取已映射的区域时直接返回缓存的视图；文件长度或修改时间发生变化时，缓存将会失效。不再需要读取该文件
+     * 时，调用者应当调用 {@link #releaseMappedBuffer(File)} 方法释放缓存。
+     *
+     * @param file   目标文件。
+     * @param offset 起始位置（从0开始计数）。
+     * @param length 读取字节数。
+     * @return 只读的ByteBuffer。永不为空值，读取失败时将返回容量为0的Buffer。
+     */
+    public static ByteBuffer readAsMappedBuffer(File file, long offset, int length) {
+        // 校验文件是否可读
+        if (file == null || !file.exists() || file.isDirectory() || !file.canRead()) {
+            System.err.println("FileIOUtil - File not exist or no permission to read!");
+            return ByteBuffer.allocate(0);
+        }
+
+        // 校验输入参数
+        if (offset < 0 || offset >= file.length() || length < 0) {
+            System.err.println("FileIOUtil - Offset or length value invalid!");
+            return ByteBuffer.allocate(0);
+        }
+
+        // 如果参数指定的长度大于实际数据长度，则改写为实际数据长度。
+        long maxLength = file.length() - offset;
+        if (length > maxLength) {
+            length = (int) maxLength;
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            ByteBuffer buffer = MappedBufferCache.get(file, offset, length);
+            recordCompleted("FileIOUtil.readAsMappedBuffer", startTime, buffer.remaining(), 0L, 0);
+            return buffer;
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Map file failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("FileIOUtil.readAsMappedBuffer", startTime, e);
+        }
+
+        return ByteBuffer.allocate(0);
+    }
+
+    /**
+     * 以内存映射方式读取文件。
+     * <p>
+     * 该方法将从文件起始位置开始，映射第二参数"length"指定长度的数据，返回只读的 {@link ByteBuffer} 视图。
+     * <p>
+     * 映射区域将按文件进行缓存，不再需要读取该文件时，调用者应当调用 {@link #releaseMappedBuffer(File)} 方法释放缓存。
+     *
+     * @param file   目标文件。
+     * @param length 读取字节数。
+     * @return 只读的ByteBuffer。永不为空值，读取失败时将返回容量为0的Buffer。
+     */
+    public static ByteBuffer readAsMappedBuffer(File file, int length) {
+        return readAsMappedBuffer(file, 0L, length);
+    }
+
+    /**
+     * 释放文件的内存映射缓存。
+     * <p>
+     * JDK没有提供主动解除映射的公开接口，该方法只会移除缓存对映射区域的引用，当调用者持有的视图全部被回收后，映射内存才会被释放。
+     *
+     * @param file 目标文件。
+     */
+    public static void releaseMappedBuffer(File file) {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            MappedBufferCache.release(file);
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Release mapped buffer failed! Reason:[" + e.getMessage() + "]");
+        }
+    }
+
+    /**
+     * 释放所有文件的内存映射缓存。
+     */
+    public static void releaseAllMappedBuffers() {
+        MappedBufferCache.releaseAll();
+    }
+
+
+    /*
+     * ----- 批量读取文件中的多个区域 -----
+     */
+
+    /**
+     * 批量读取文件中的多个区域。
+     * <p>
+     * 文件只会被打开一次。各区域将按照起始位置排序，首尾相接或间隔较小的区域将被合并，通过一次分散读取
+     * （{@link FileChannel#read(ByteBuffer[])}）直接填充至对应的Buffer中；相互重叠的区域将分别进行定位读取。
+     * <p>
+     * 第二参数"ranges"与第三参数"buffers"中的元素一一对应，每个区域的数据将被写入对应Buffer的"position"处，读取的数量不超过区域长度与
+     * Buffer剩余空间中较小的一个；操作完毕后各Buffer的"position"将向后移动。超出文件末尾的部分将被忽略。
+     *
+     * @param file    目标文件。
+     * @param ranges  待读取的区域。
+     * @param buffers 接收数据的Buffer，可以是堆内或堆外Buffer。
+     * @return 读取的总字节数，读取失败时返回"-1"。
+     */
+    public static long readRanges(File file, List<FileRange> ranges, List<ByteBuffer> buffers) {
+        // 校验文件是否可读
+        if (file == null || !file.exists() || file.isDirectory() || !file.canRead()) {
+            System.err.println("FileIOUtil - File not exist or no permission to read!");
+            return -1L;
+        }
+
+        // 校验输入参数
+        if (ranges == null || buffers == null || ranges.size() != buffers.size()) {
+            System.err.println("FileIOUtil - Ranges and buffers not match!");
+            return -1L;
+        }
+
+        // 按照起始位置排序，保留原始索引以便找到对应的Buffer。
+        Integer[] order = new Integer[ranges.size()];
+        for (int i = 0; i < order.length; i++) {
+            if (ranges.get(i) == null || buffers.get(i) == null) {
+                System.err.println("FileIOUtil - Range or buffer is null!");
+                return -1L;
+            }
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> ranges.get(i).getOffset()));
+
+        long startTime = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long total = 0L;
+            int index = 0;
+            while (index < order.length) {
+                // 寻找从当前区域开始，可以合并为一次分散读取的连续区域。Buffer剩余空间不足时，区域中未读取的部分视为间隔。
+                int groupEnd = index + 1;
+                long end = readEnd(ranges.get(order[index]), buffers.get(order[index]));
+                while (groupEnd < order.length) {
+                    long nextOffset = ranges.get(order[groupEnd]).getOffset();
+                    if (nextOffset < end || nextOffset - end > RANGE_MERGE_GAP) {
+                        break;
+                    }
+                    end = readEnd(ranges.get(order[groupEnd]), buffers.get(order[groupEnd]));
+                    groupEnd++;
+                }
+
+                if (groupEnd - index > 1) {
+                    total += scatterRead(channel, ranges, buffers, order, index, groupEnd);
+                } else {
+                    // 单个区域，或与下一个区域重叠，直接定位读取。
+                    total += positionalRead(channel, ranges.get(order[index]), buffers.get(order[index]));
+                }
+                index = groupEnd;
+            }
+
+            recordCompleted("FileIOUtil.readRanges", startTime, total, 0L, 0);
+            return total;
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Read ranges failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("FileIOUtil.readRanges", startTime, e);
+        }
+
+        return -1L;
+    }
+
+    /**
+     * 批量读取文件中的多个区域。
+     * <p>
+     * 文件只会被打开一次，并且相邻的区域将被合并读取，详见 {@link #readRanges(File, List, List)} 方法。
+     * <p>
+     * 返回列表中的元素与第二参数"ranges"一一对应，超出文件末尾的部分将被忽略。
+     *
+     * @param file   目标文件。
+     * @param ranges 待读取的区域。
+     * @return 各区域的二进制数据。永不为空值，读取失败时将返回内容为空的列表。
+     */
+    public static List<byte[]> readRanges(File file, List<FileRange> ranges) {
+        if (file == null || ranges == null) {
+            System.err.println("FileIOUtil - File or ranges is null!");
+            return new ArrayList<>();
+        }
+
+        long fileLength = file.length();
+        List<byte[]> results = new ArrayList<>(ranges.size());
+        List<ByteBuffer> buffers = new ArrayList<>(ranges.size());
+        for (FileRange range : ranges) {
+            if (range == null) {
+                System.err.println("FileIOUtil - Range is null!");
+                return new ArrayList<>();
+            }
+
+            // 如果区域超出文件末尾，则截取有效部分。
+            int length = (int) Math.max(0L, Math.min(range.getLength(), fileLength - range.getOffset()));
+            byte[] data = new byte[length];
+            results.add(data);
+            buffers.add(ByteBuffer.wrap(data));
+        }
+
+        if (readRanges(file, ranges, buffers) < 0L) {
+            return new ArrayList<>();
+        }
+
+        // 读取期间文件被截断时，截取有效元素。
+        for (int i = 0; i < results.size(); i++) {
+            ByteBuffer buffer = buffers.get(i);
+            if (buffer.hasRemaining()) {
+                results.set(i, Arrays.copyOf(results.get(i), buffer.position()));
+            }
+        }
+
+        return results;
+    }
+
 
     /*
      * ----- 从文件描述符读取二进制数据 -----
@@ -133,54 +447,25 @@ public class FileIOUtil extends IOUtil {
             return new byte[0];
         }
 
-        ByteArrayOutputStream result = null;
+        long startTime = System.nanoTime();
+        SegmentedOutputStream result = null;
         try (
-                FileInputStream fis = new FileInputStream(fd);
-                BufferedInputStream bis = new BufferedInputStream(fis, bufferSize)
+                FileInputStream fis = new FileInputStream(fd)
         ) {
-            // 忽略指定长度的数据
-            if (offset > 0L) {
-                long skipped = 0;
-                while (skipped < offset) {
-                    long count = bis.skip(offset - skipped);
-                    if (count <= 0) {
-                        // 跳过操作失败，检测是否已到达末尾。
-                        if (bis.read() == -1) {
-                            return new byte[0];
-                        }
-
-                        skipped++;
-                    } else {
-                        // 跳过操作成功，累计偏移量。
-                        skipped += count;
-                    }
-                }
+            // 忽略指定长度的数据，文件描述符支持定位时直接移动读取位置。
+            if (skipFully(fis, offset) < offset) {
+                recordCompleted("FileIOUtil.readAsBytes", startTime, 0L, 0L, bufferSize);
+                return new byte[0];
             }
 
-            result = new ByteArrayOutputStream();
-            byte[] buffer = new byte[bufferSize];
-            int remaining = length;
-            while (remaining > 0) {
-                // 当前轮次读取的数量为缓冲区容量和剩余数量中较小的一个
-                int readCount = Math.min(bufferSize, remaining);
-                int count = bis.read(buffer, 0, readCount);
-                // 如果读取方法返回负数，表示已到文件末尾。
-                if (count == -1) {
-                    break;
-                }
-
-                if (count > 0) {
-                    // 将读取到的数据添加到结果列表中
-                    result.write(buffer, 0, count);
-                    // 更新剩余的数据量
-                    remaining -= count;
-                }
-            }
-
-            // 将每轮读取到的数据合并为单个数组
+            // 数据直接读取至分段缓冲区中，扩容时无需复制已有数据，最终只需合并一次。
+            result = new SegmentedOutputStream(Math.max(bufferSize, BUFFER_SIZE_128KB), Long.MAX_VALUE);
+            result.readFrom(fis, length);
+            recordCompleted("FileIOUtil.readAsBytes", startTime, result.size(), 0L, bufferSize);
             return result.toByteArray();
         } catch (IOException e) {
             System.err.println("FileIOUtil - Read FD as bytes failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("FileIOUtil.readAsBytes", startTime, e);
         } finally {
             closeSilently(result);
         }
@@ -242,6 +527,130 @@ public class FileIOUtil extends IOUtil {
         return readAsBytes(fd, 0L, Integer.MAX_VALUE, BUFFER_SIZE_DEFAULT);
     }
 
+    /**
+     * 从文件描述符读取二进制数据至Buffer中。
+     * <p>
+     * 该方法将从第二参数"offset"指定位置开始，读取数据直至Buffer被填满或到达文件末尾。数据通过文件描述符对应的 {@link FileChannel}
+     * 直接写入Buffer，目标为直接内存Buffer时无需经过堆内存中转。
+     * <p>
+     * 读取完毕后Buffer的"position"将前移读取的字节数，调用者发送数据前需要自行调用 {@link ByteBuffer#flip()} 方法。
+     *
+     * @param fd     文件描述符。
+     * @param offset 起始位置（从0开始计数）。
+     * @param buffer 接收数据的Buffer，可以是堆内存或直接内存Buffer。
+     * @return 读取的字节数。读取失败时返回"-1"。
+     */
+    public static int readAsBytes(FileDescriptor fd, long offset, ByteBuffer buffer) {
+        // 校验文件描述符是否可用
+        if (fd == null || !fd.valid()) {
+            System.err.println("FileIOUtil - FileDescriptor is null or invalid!");
+            return -1;
+        }
+
+        // 校验输入参数
+        if (buffer == null || buffer.isReadOnly()) {
+            System.err.println("FileIOUtil - Buffer is null or read only!");
+            return -1;
+        }
+
+        if (offset < 0L) {
+            System.err.println("FileIOUtil - Offset or length value invalid!");
+            return -1;
+        }
+
+        long startTime = System.nanoTime();
+        try (
+                FileInputStream fis = new FileInputStream(fd);
+                FileChannel channel = fis.getChannel()
+        ) {
+            // 忽略指定长度的数据，文件描述符支持定位时直接移动读取位置。
+            if (skipFully(fis, offset) < offset) {
+                recordCompleted("FileIOUtil.readAsBytes", startTime, 0L, 0L, 0);
+                return 0;
+            }
+
+            int total = 0;
+            while (buffer.hasRemaining()) {
+                int count = channel.read(buffer);
+                if (count == -1) {
+                    break;
+                }
+                total += count;
+            }
+
+            recordCompleted("FileIOUtil.readAsBytes", startTime, total, 0L, 0);
+            return total;
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Read FD to buffer failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("FileIOUtil.readAsBytes", startTime, e);
+        }
+
+        return -1;
+    }
+
+    /**
+     * 从文件描述符读取二进制数据至Buffer中。
+     * <p>
+     * 该方法将从文件描述符的当前位置开始，读取数据直至Buffer被填满或到达文件末尾。
+     * <p>
+     * 读取完毕后Buffer的"position"将前移读取的字节数，调用者发送数据前需要自行调用 {@link ByteBuffer#flip()} 方法。
+     *
+     * @param fd     文件描述符。
+     * @param buffer 接收数据的Buffer，可以是堆内存或直接内存Buffer。
+     * @return 读取的字节数。读取失败时返回"-1"。
+     */
+    public static int readAsBytes(FileDescriptor fd, ByteBuffer buffer) {
+        return readAsBytes(fd, 0L, buffer);
+    }
+
+
+    /*
+     * ----- 从压缩文件读取二进制数据 -----
+     */
+
+    /**
+     * 从压缩文件读取所有数据并解压。
+     * <p>
+     * 解压器从池中获取，使用完毕后归还，无需为每次调用创建新的实例。GZIP文件将根据尾部记录的原始长度预先分配结果数组。
+     * <p>
+     * 该方法仅适用于简单数据的处理，无法处理解压后长度超过2GiB的文件。对于大文件读取场景，调用者可以直接使用
+     * {@link CompressedInputStream} 分块读取并进行处理。
+     *
+     * @param file        目标文件。
+     * @param compression 压缩格式。
+     * @return 解压后的二进制数据。永不为空值，读取失败时将返回内容为空的数组。
+     */
+    public static byte[] readAllAsBytes(File file, Compression compression) {
+        // 校验文件是否可读
+        if (file == null || !file.exists() || file.isDirectory() || !file.canRead()) {
+            System.err.println("FileIOUtil - File not exist or no permission to read!");
+            return new byte[0];
+        }
+
+        if (compression == null) {
+            System.err.println("FileIOUtil - Compression is null!");
+            return new byte[0];
+        }
+
+        long startTime = System.nanoTime();
+        try (
+                FileInputStream fis = new FileInputStream(file);
+                CompressedInputStream input = new CompressedInputStream(fis, compression, BUFFER_SIZE_256KB)
+        ) {
+            ByteArraySink sink = new ByteArraySink(estimateUncompressedSize(file, compression));
+            sink.readFrom(input, Integer.MAX_VALUE);
+            // 读取的字节数为压缩数据的长度
+            recordCompleted("FileIOUtil.readAllAsBytes", startTime, fis.getChannel().position(), 0L,
+                    BUFFER_SIZE_256KB);
+            return sink.toByteArray();
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Read compressed file failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("FileIOUtil.readAllAsBytes", startTime, e);
+        }
+
+        return new byte[0];
+    }
+
 
     /*
      * ----- 从文件读取二进制数据，并进行处理。 -----
@@ -311,27 +720,7 @@ public class FileIOUtil extends IOUtil {
      * @param bufferSize 缓冲区大小（字节）。
      */
     public static void saveToFile(InputStream stream, File file, int bufferSize) {
-        // 校验输入参数
-        if (bufferSize <= 0) {
-            System.err.println("FileIOUtil - Buffer size must > 0!");
-            return;
-        }
-
-        try (
-                BufferedInputStream bis = new BufferedInputStream(stream, bufferSize);
-                BufferedOutputStream bos = new BufferedOutputStream(Files.newOutputStream(file.toPath()), bufferSize)
-        ) {
-            byte[] buffer = new byte[bufferSize];
-            while (true) {
-                int count = bis.read(buffer);
-                if (count == -1) {
-                    break;
-                }
-                bos.write(buffer, 0, count);
-            }
-        } catch (IOException e) {
-            System.err.println("FileIOUtil - Copy data from InputStream failed! Reason:[" + e.getMessage() + "]");
-        }
+        transferToFile(stream, file, bufferSize);
     }
 
     /**
@@ -353,28 +742,82 @@ public class FileIOUtil extends IOUtil {
 
     /**
      * 将 {@link ByteArrayOutputStream} 中的数据转存至文件。
+     * <p>
+     * 数据将通过 {@link ByteArrayOutputStream#writeTo(OutputStream)} 方法直接写入文件，不会复制内部数组。
      *
      * @param stream     {@link ByteArrayOutputStream}实例。
      * @param file       目标文件。
      * @param bufferSize 缓冲区大小（字节）。
      */
     public static void saveToFile(ByteArrayOutputStream stream, File file, int bufferSize) {
-        ByteArrayInputStream input = new ByteArrayInputStream(stream.toByteArray());
-        saveToFile(input, file, bufferSize);
-    }
+        // 校验输入参数
+        if (stream == null || file == null) {
+            System.err.println("FileIOUtil - Stream or file is null!");
+            return;
+        }
 
-    /**
-     * 将 {@link ByteArrayOutputStream} 中的数据转存至文件。
-     * <p>
-     * 默认使用"8KB"缓冲区。
-     *
-     * @param stream {@link ByteArrayOutputStream}实例。
-     * @param file   目标文件。
-     */
-    public static void saveToFile(ByteArrayOutputStream stream, File file) {
+        if (bufferSize <= 0) {
+            System.err.println("FileIOUtil - Buffer size must > 0!");
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        try (
+                FileChannel target = openTargetChannel(file);
+                OutputStream output = Channels.newOutputStream(target)
+        ) {
+            stream.writeTo(output);
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Copy data from ByteArrayOutputStream failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("FileIOUtil.saveToFile", startTime, e);
+            return;
+        }
+
+        recordCompleted("FileIOUtil.saveToFile", startTime, 0L, stream.size(), 0);
+    }
+
+    /**
+     * 将 {@link ByteArrayOutputStream} 中的数据转存至文件。
+     * <p>
+     * 默认使用"8KB"缓冲区。
+     *
+     * @param stream {@link ByteArrayOutputStream}实例。
+     * @param file   目标文件。
+     */
+    public static void saveToFile(ByteArrayOutputStream stream, File file) {
         saveToFile(stream, file, BUFFER_SIZE_DEFAULT);
     }
 
+    /**
+     * 将 {@link SegmentedOutputStream} 中的数据转存至文件。
+     * <p>
+     * 数据将通过 {@link SegmentedOutputStream#writeTo(WritableByteChannel)} 方法直接写入文件通道：数据位于内存中时以聚集写入的方式写入
+     * 所有段，已转存至临时文件时则在通道之间直接传输，均不会复制数据。操作完毕后输入实例不会被关闭。
+     *
+     * @param stream {@link SegmentedOutputStream}实例。
+     * @param file   目标文件。
+     */
+    public static void saveToFile(SegmentedOutputStream stream, File file) {
+        // 校验输入参数
+        if (stream == null || file == null) {
+            System.err.println("FileIOUtil - Stream or file is null!");
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        try (
+                FileChannel target = openTargetChannel(file)
+        ) {
+            stream.writeTo(target);
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Copy data from SegmentedOutputStream failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("FileIOUtil.saveToFile", startTime, e);
+            return;
+        }
+
+        recordCompleted("FileIOUtil.saveToFile", startTime, 0L, stream.size(), 0);
+    }
+
 
     /*
      * ----- 将字节数组转存至文件 -----
@@ -388,8 +831,18 @@ public class FileIOUtil extends IOUtil {
      * @param bufferSize 缓冲区大小（字节）。
      */
     public static void saveToFile(byte[] data, File file, int bufferSize) {
-        ByteArrayInputStream input = new ByteArrayInputStream(data);
-        saveToFile(input, file, bufferSize);
+        // 校验输入参数
+        if (bufferSize <= 0) {
+            System.err.println("FileIOUtil - Buffer size must > 0!");
+            return;
+        }
+
+        if (data == null) {
+            System.err.println("FileIOUtil - Data is null!");
+            return;
+        }
+
+        transferToFile(ByteBuffer.wrap(data), file);
     }
 
     /**
@@ -417,74 +870,1081 @@ public class FileIOUtil extends IOUtil {
      * @param bufferSize 缓冲区大小（字节）。
      */
     public static void saveToFile(FileDescriptor fd, File file, int bufferSize) {
-        // 校验输入参数的合法性
-        if (bufferSize <= 0) {
-            System.err.println("FileIOUtil - Buffer size must > 0!");
+        transferToFile(fd, file, bufferSize);
+    }
+
+    /**
+     * 将文件描述符指向的内容转存至文件。
+     * <p>
+     * 默认使用"8KB"缓冲区。
+     *
+     * @param fd   文件描述符。
+     * @param file 目标文件。
+     */
+    public static void saveToFile(FileDescriptor fd, File file) {
+        saveToFile(fd, file, BUFFER_SIZE_DEFAULT);
+    }
+
+
+    /*
+     * ----- 将数据压缩后转存至文件 -----
+     */
+
+    /**
+     * 将字节数组中的数据压缩后转存至文件。
+     * <p>
+     * 压缩器从池中获取，使用完毕后归还，无需为每次调用创建新的实例。
+     *
+     * @param data        字节数组。
+     * @param file        目标文件。
+     * @param compression 压缩格式。
+     * @param level       压缩级别，取值范围为"-1"至"9"，参见 {@link java.util.zip.Deflater#setLevel(int)} 。
+     * @param strategy    压缩策略，参见 {@link java.util.zip.Deflater#setStrategy(int)} 。
+     */
+    public static void saveToFile(byte[] data, File file, Compression compression, int level, int strategy) {
+        // 校验输入参数
+        if (data == null || file == null || compression == null) {
+            System.err.println("FileIOUtil - Data, file or compression is null!");
+            return;
+        }
+
+        if (!isValidDeflaterOption(level, strategy)) {
+            System.err.println("FileIOUtil - Compression level or strategy invalid!");
+            return;
+        }
+
+        // 数组直接交给压缩器，无需经过中间缓冲区。
+        long startTime = System.nanoTime();
+        long written;
+        try (
+                FileChannel target = openTargetChannel(file);
+                CompressedOutputStream output = new CompressedOutputStream(Channels.newOutputStream(target),
+                        compression, level, strategy, BUFFER_SIZE_256KB)
+        ) {
+            output.write(data);
+            output.finish();
+            written = target.position();
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Save compressed file failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("FileIOUtil.saveToFile", startTime, e);
+            return;
+        }
+
+        recordCompleted("FileIOUtil.saveToFile", startTime, data.length, written, BUFFER_SIZE_256KB);
+    }
+
+    /**
+     * 将字节数组中的数据压缩后转存至文件。
+     * <p>
+     * 默认使用默认压缩级别与默认压缩策略。
+     *
+     * @param data        字节数组。
+     * @param file        目标文件。
+     * @param compression 压缩格式。
+     */
+    public static void saveToFile(byte[] data, File file, Compression compression) {
+        saveToFile(data, file, compression, Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+    }
+
+    /**
+     * 将输入流中的数据压缩后转存至文件。
+     * <p>
+     * 压缩器从池中获取，使用完毕后归还，无需为每次调用创建新的实例。
+     * <p>
+     * 操作完毕后输入流会被关闭。
+     *
+     * @param stream      输入流。
+     * @param file        目标文件。
+     * @param compression 压缩格式。
+     * @param level       压缩级别，取值范围为"-1"至"9"，参见 {@link java.util.zip.Deflater#setLevel(int)} 。
+     * @param strategy    压缩策略，参见 {@link java.util.zip.Deflater#setStrategy(int)} 。
+     */
+    public static void saveToFile(InputStream stream, File file, Compression compression, int level, int strategy) {
+        // 校验输入参数
+        if (stream == null || file == null || compression == null) {
+            System.err.println("FileIOUtil - Stream, file or compression is null!");
+            return;
+        }
+
+        if (!isValidDeflaterOption(level, strategy)) {
+            System.err.println("FileIOUtil - Compression level or strategy invalid!");
             return;
         }
 
+        long startTime = System.nanoTime();
+        long read = 0L;
+        long written;
+        byte[] buffer = getBufferPool().acquire(BUFFER_SIZE_256KB);
         try (
-                BufferedInputStream bis = new BufferedInputStream(new FileInputStream(fd), bufferSize);
-                BufferedOutputStream bos = new BufferedOutputStream(Files.newOutputStream(file.toPath()), bufferSize)
+                InputStream input = stream;
+                FileChannel target = openTargetChannel(file);
+                CompressedOutputStream output = new CompressedOutputStream(Channels.newOutputStream(target),
+                        compression, level, strategy, BUFFER_SIZE_256KB)
         ) {
-            byte[] buffer = new byte[bufferSize];
             while (true) {
-                int count = bis.read(buffer);
+                int count = input.read(buffer);
                 if (count == -1) {
                     break;
                 }
-                bos.write(buffer, 0, count);
+                output.write(buffer, 0, count);
+                read += count;
             }
-        } catch (Exception e) {
+            output.finish();
+            written = target.position();
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Save compressed file failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("FileIOUtil.saveToFile", startTime, e);
+            return;
+        } finally {
+            getBufferPool().release(buffer);
+        }
+
+        recordCompleted("FileIOUtil.saveToFile", startTime, read, written, BUFFER_SIZE_256KB);
+    }
+
+    /**
+     * 将输入流中的数据压缩后转存至文件。
+     * <p>
+     * 操作完毕后输入流会被关闭；默认使用默认压缩级别与默认压缩策略。
+     *
+     * @param stream      输入流。
+     * @param file        目标文件。
+     * @param compression 压缩格式。
+     */
+    public static void saveToFile(InputStream stream, File file, Compression compression) {
+        saveToFile(stream, file, compression, Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+    }
+
+
+    /*
+     * ----- 通过通道将数据转存至文件 -----
+     */
+
+    /**
+     * 通过通道将文件内容转存至另一个文件。
+     * <p>
+     * 使用 {@link FileChannel#transferTo} 方法进行复制，在Linux等系统上将由内核直接完成（sendfile/copy_file_range），数据不经过
+     * 用户态缓冲区。
+     *
+     * @param source 源文件。
+     * @param file   目标文件。
+     * @return 转存结果，包含字节数与耗时。
+     */
+    public static TransferResult transferToFile(File source, File file) {
+        // 校验文件是否可读
+        if (source == null || !source.exists() || source.isDirectory() || !source.canRead()) {
+            System.err.println("FileIOUtil - File not exist or no permission to read!");
+            return new TransferResult(false, false, 0L, 0L);
+        }
+
+        try (FileInputStream fis = new FileInputStream(source)) {
+            return transferFromChannel(fis.getChannel(), file, BUFFER_SIZE_DEFAULT);
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Copy data from file failed! Reason:[" + e.getMessage() + "]");
+        }
+
+        return new TransferResult(false, false, 0L, 0L);
+    }
+
+    /**
+     * 通过通道将文件描述符指向的内容转存至文件。
+     * <p>
+     * 从文件描述符的当前位置开始，使用 {@link FileChannel#transferTo} 方法复制至末尾；文件描述符指向管道等不支持该操作的对象时，将自动
+     * 改用缓冲区逐块复制。
+     * <p>
+     * 操作完毕后文件描述符会被关闭。
+     *
+     * @param fd         文件描述符。
+     * @param file       目标文件。
+     * @param bufferSize 缓冲区大小（字节），仅在逐块复制时使用。
+     * @return 转存结果，包含字节数与耗时。
+     */
+    public static TransferResult transferToFile(FileDescriptor fd, File file, int bufferSize) {
+        // 校验文件描述符是否可用
+        if (fd == null || !fd.valid()) {
+            System.err.println("FileIOUtil - FileDescriptor is null or invalid!");
+            return new TransferResult(false, false, 0L, 0L);
+        }
+
+        if (bufferSize <= 0) {
+            System.err.println("FileIOUtil - Buffer size must > 0!");
+            return new TransferResult(false, false, 0L, 0L);
+        }
+
+        try (FileInputStream fis = new FileInputStream(fd)) {
+            return transferFromChannel(fis.getChannel(), file, bufferSize);
+        } catch (IOException e) {
             System.err.println("FileIOUtil - Copy data from FD failed! Reason:[" + e.getMessage() + "]");
         }
+
+        return new TransferResult(false, false, 0L, 0L);
     }
 
     /**
-     * 将文件描述符指向的内容转存至文件。
+     * 通过通道将文件描述符指向的内容转存至文件。
      * <p>
-     * 默认使用"8KB"缓冲区。
+     * 操作完毕后文件描述符会被关闭；默认使用"8KB"缓冲区。
      *
      * @param fd   文件描述符。
      * @param file 目标文件。
+     * @return 转存结果，包含字节数与耗时。
      */
-    public static void saveToFile(FileDescriptor fd, File file) {
-        saveToFile(fd, file, BUFFER_SIZE_DEFAULT);
+    public static TransferResult transferToFile(FileDescriptor fd, File file) {
+        return transferToFile(fd, file, BUFFER_SIZE_DEFAULT);
     }
 
+    /**
+     * 通过通道将输入流中的数据转存至文件。
+     * <p>
+     * 输入流为 {@link FileInputStream} 时，使用 {@link FileChannel#transferTo} 方法进行复制；其他输入流将通过堆外缓冲区逐块写入
+     * 目标文件的通道。
+     * <p>
+     * 操作完毕后输入流会被关闭。
+     *
+     * @param stream     输入流。
+     * @param file       目标文件。
+     * @param bufferSize 缓冲区大小（字节）。
+     * @return 转存结果，包含字节数与耗时。
+     */
+    public static TransferResult transferToFile(InputStream stream, File file, int bufferSize) {
+        // 校验输入参数
+        if (stream == null) {
+            System.err.println("FileIOUtil - InputStream is null!");
+            return new TransferResult(false, false, 0L, 0L);
+        }
+
+        if (bufferSize <= 0) {
+            System.err.println("FileIOUtil - Buffer size must > 0!");
+            closeSilently(stream);
+            return new TransferResult(false, false, 0L, 0L);
+        }
+
+        try {
+            if (stream instanceof FileInputStream) {
+                return transferFromChannel(((FileInputStream) stream).getChannel(), file, bufferSize);
+            } else {
+                return transferFromStream(stream, file, bufferSize);
+            }
+        } finally {
+            closeSilently(stream);
+        }
+    }
 
     /**
-     * 将数字转为十六进制文本。
+     * 通过通道将输入流中的数据转存至文件。
      * <p>
-     * 与 [lib-common:base#NumberUtil] 模块中的同名方法相同。
+     * 操作完毕后输入流会被关闭；默认使用"8KB"缓冲区。
      *
-     * @param data        待转换的数字。
-     * @param needPadding 结果为单个字符时，是否在前面补"0"。
-     * @param isUpperCase 是否将结果转换为大写字母。
-     * @return 十六进制文本。永不为空，转换失败时将返回内容为空的字符串。
+     * @param stream 输入流。
+     * @param file   目标文件。
+     * @return 转存结果，包含字节数与耗时。
+     */
+    public static TransferResult transferToFile(InputStream stream, File file) {
+        return transferToFile(stream, file, BUFFER_SIZE_DEFAULT);
+    }
+
+    /**
+     * 通过通道将ByteBuffer中的数据转存至文件。
+     * <p>
+     * 将写入Buffer中"position"至"limit"之间的数据，操作完毕后"position"将移动至"limit"处。
+     *
+     * @param data 数据。
+     * @param file 目标文件。
+     * @return 转存结果，包含字节数与耗时。
+     */
+    public static TransferResult transferToFile(ByteBuffer data, File file) {
+        // 校验输入参数
+        if (data == null || file == null) {
+            System.err.println("FileIOUtil - Data or file is null!");
+            return new TransferResult(false, false, 0L, 0L);
+        }
+
+        long startTime = System.nanoTime();
+        long transferred = 0L;
+        try (FileChannel target = openTargetChannel(file)) {
+            while (data.hasRemaining()) {
+                transferred += target.write(data);
+            }
+
+            recordCompleted("FileIOUtil.transferToFile", startTime, 0L, transferred, 0);
+            return new TransferResult(true, false, transferred, System.nanoTime() - startTime);
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Copy data from ByteBuffer failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("FileIOUtil.transferToFile", startTime, e);
+        }
+
+        return new TransferResult(false, false, transferred, System.nanoTime() - startTime);
+    }
+
+
+    /*
+     * ----- 以原子或持久化方式转存至文件 -----
+     */
+
+    /**
+     * 将字节数组中的数据转存至文件。
+     * <p>
+     * 保存方式为 {@link SaveMode#ATOMIC} 或 {@link SaveMode#DURABLE} 时，数据将先写入同一目录中的临时文件，再通过原子移动替换目标
+     * 文件，写入过程中程序崩溃不会导致目标文件内容不完整。
+     *
+     * @param data 字节数组。
+     * @param file 目标文件。
+     * @param mode 保存方式。
+     * @return "true"表示保存成功；"false"表示保存失败，此时目标文件保持原样（直接写入方式除外）。以 {@link SaveMode#DURABLE} 方式
+     * 保存时，若目标文件替换完成后同步目录失败，同样返回"false"，此时目标文件已被替换为新的内容，但无法确认其已持久化。
+     */
+    public static boolean saveToFile(byte[] data, File file, SaveMode mode) {
+        // 校验输入参数
+        if (data == null || file == null || mode == null) {
+            System.err.println("FileIOUtil - Data, file or mode is null!");
+            return false;
+        }
+
+        if (mode == SaveMode.DIRECT) {
+            return transferToFile(ByteBuffer.wrap(data), file).isSuccess();
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            boolean durable = mode == SaveMode.DURABLE;
+            Path temp = writeTempFile(data, file, durable);
+            moveTempFile(temp, file, durable);
+            recordCompleted("FileIOUtil.saveToFile", startTime, 0L, data.length, 0);
+            return true;
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Save file atomically failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("FileIOUtil.saveToFile", startTime, e);
+        }
+
+        return false;
+    }
+
+    /**
+     * 将输入流中的数据转存至文件。
+     * <p>
+     * 保存方式为 {@link SaveMode#ATOMIC} 或 {@link SaveMode#DURABLE} 时，数据将先写入同一目录中的临时文件，再通过原子移动替换目标
+     * 文件，写入过程中程序崩溃不会导致目标文件内容不完整。
+     * <p>
+     * 操作完毕后输入流会被关闭。
+     *
+     * @param stream 输入流。
+     * @param file   目标文件。
+     * @param mode   保存方式。
+     * @return "true"表示保存成功；"false"表示保存失败，此时目标文件保持原样（直接写入方式除外）。以 {@link SaveMode#DURABLE} 方式
+     * 保存时，若目标文件替换完成后同步目录失败，同样返回"false"，此时目标文件已被替换为新的内容，但无法确认其已持久化。
+     */
+    public static boolean saveToFile(InputStream stream, File file, SaveMode mode) {
+        // 校验输入参数
+        if (stream == null || file == null || mode == null) {
+            System.err.println("FileIOUtil - Stream, file or mode is null!");
+            return false;
+        }
+
+        if (mode == SaveMode.DIRECT) {
+            return transferToFile(stream, file).isSuccess();
+        }
+
+        long startTime = System.nanoTime();
+        Path temp = null;
+        try (
+                InputStream input = stream
+        ) {
+            temp = createSiblingTempFile(file);
+            long written;
+            try (FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                written = copyByBuffer(Channels.newChannel(input), target, BUFFER_SIZE_128KB);
+                if (mode == SaveMode.DURABLE) {
+                    target.force(true);
+                }
+            }
+
+            moveTempFile(temp, file, mode == SaveMode.DURABLE);
+            recordCompleted("FileIOUtil.saveToFile", startTime, written, written, BUFFER_SIZE_128KB);
+            return true;
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Save file atomically failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("FileIOUtil.saveToFile", startTime, e);
+            deleteSilently(temp);
+        }
+
+        return false;
+    }
+
+
+    /*
+     * ----- 并行复制文件 -----
+     */
+
+    /**
+     * 并行复制文件。
+     * <p>
+     * 将源文件划分为多个区域，在线程池中并发地通过定位读写（{@link FileChannel#read(ByteBuffer, long)} 与
+     * {@link FileChannel#write(ByteBuffer, long)}）复制各个区域，适合在高速存储设备之间复制体积巨大的文件。
+     * <p>
+     * 开始复制之前，目标文件将被预先设置为源文件的长度；复制完毕后将校验复制的字节数。源文件与目标文件为同一文件时将直接返回失败。
+     *
+     * @param source    源文件。
+     * @param file      目标文件。
+     * @param executor  执行复制任务的线程池，为空值时将创建与CPU核心数量相同的临时线程池。
+     * @param chunkSize 每个区域的大小（字节）。
+     * @param listener  进度监听器，可以为空值。
+     * @return 转存结果，包含字节数与耗时。
+     */
+    public static TransferResult copyFileParallel(File source, File file, ExecutorService executor, long chunkSize,
+                                                  CopyProgressListener listener) {
+        // 校验文件是否可读
+        if (source == null || !source.exists() || source.isDirectory() || !source.canRead()) {
+            System.err.println("FileIOUtil - File not exist or no permission to read!");
+            return new TransferResult(false, false, 0L, 0L);
+        }
+
+        try {
+            // 预先设置目标文件长度时将清空源文件，因此不能复制至自身。
+            if (file != null && file.exists() && Files.isSameFile(source.toPath(), file.toPath())) {
+                System.err.println("FileIOUtil - Copy file failed! Reason:[Source and target are the same file]");
+                return new TransferResult(false, false, 0L, 0L);
+            }
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Copy file failed! Reason:[" + e.getMessage() + "]");
+            return new TransferResult(false, false, 0L, 0L);
+        }
+
+        try (FileChannel channel = FileChannel.open(source.toPath(), StandardOpenOption.READ)) {
+            return copyChannelParallel(channel, 0L, file, executor, chunkSize, listener);
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Copy file failed! Reason:[" + e.getMessage() + "]");
+        }
+
+        return new TransferResult(false, false, 0L, 0L);
+    }
+
+    /**
+     * 并行复制文件。
+     * <p>
+     * 默认将源文件划分为32MB的区域，不监听进度。
+     *
+     * @param source   源文件。
+     * @param file     目标文件。
+     * @param executor 执行复制任务的线程池，为空值时将创建与CPU核心数量相同的临时线程池。
+     * @return 转存结果，包含字节数与耗时。
+     */
+    public static TransferResult copyFileParallel(File source, File file, ExecutorService executor) {
+        return copyFileParallel(source, file, executor, BUFFER_SIZE_32MB, null);
+    }
+
+    /**
+     * 并行复制文件描述符指向的内容。
+     * <p>
+     * 从文件描述符的当前位置开始复制至末尾，文件描述符必须指向普通文件。复制过程使用定位读取，不会改变文件描述符的位置；操作完毕后文件描述
+     * 符会被关闭。
+     *
+     * @param fd        文件描述符。
+     * @param file      目标文件。
+     * @param executor  执行复制任务的线程池，为空值时将创建与CPU核心数量相同的临时线程池。
+     * @param chunkSize 每个区域的大小（字节）。
+     * @param listener  进度监听器，可以为空值。
+     * @return 转存结果，包含字节数与耗时。
+     */
+    public static TransferResult copyFileParallel(FileDescriptor fd, File file, ExecutorService executor, long chunkSize,
+                                                  CopyProgressListener listener) {
+        // 校验文件描述符是否可用
+        if (fd == null || !fd.valid()) {
+            System.err.println("FileIOUtil - FileDescriptor is null or invalid!");
+            return new TransferResult(false, false, 0L, 0L);
+        }
+
+        try (FileInputStream fis = new FileInputStream(fd)) {
+            FileChannel channel = fis.getChannel();
+            return copyChannelParallel(channel, channel.position(), file, executor, chunkSize, listener);
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Copy data from FD failed! Reason:[" + e.getMessage() + "]");
+        }
+
+        return new TransferResult(false, false, 0L, 0L);
+    }
+
+    /**
+     * 将文件通道中的数据转存至文件。
+     * <p>
+     * 从通道的当前位置开始，优先使用 {@link FileChannel#transferTo} 方法复制至当前末尾，随后改用缓冲区读取剩余的数据，以兼容管道等无法
+     * 获取长度的对象，以及复制期间继续增长的文件。
+     *
+     * @param source     源通道。
+     * @param file       目标文件。
+     * @param bufferSize 缓冲区大小（字节）。
+     * @return 转存结果。
+     */
+    private static TransferResult transferFromChannel(FileChannel source, File file, int bufferSize) {
+        long startTime = System.nanoTime();
+        long transferred = 0L;
+        boolean zeroCopy = false;
+        try (FileChannel target = openTargetChannel(file)) {
+            try {
+                long position = source.position();
+                long size = source.size();
+                while (position < size) {
+                    long count = source.transferTo(position, size - position, target);
+                    if (count <= 0L) {
+                        break;
+                    }
+
+                    position += count;
+                    transferred += count;
+                    zeroCopy = true;
+                }
+                source.position(position);
+            } catch (IOException e) {
+                // 源通道不支持获取长度或定位（例如管道），改用缓冲区复制。
+                if (transferred > 0L) {
+                    throw e;
+                }
+            }
+
+            transferred += copyByBuffer(source, target, bufferSize);
+            // 零拷贝方式不使用缓冲区
+            recordCompleted("FileIOUtil.transferToFile", startTime, transferred, transferred,
+                    zeroCopy ? 0 : bufferSize);
+            return new TransferResult(true, zeroCopy, transferred, System.nanoTime() - startTime);
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Transfer data from channel failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("FileIOUtil.transferToFile", startTime, e);
+        }
+
+        return new TransferResult(false, zeroCopy, transferred, System.nanoTime() - startTime);
+    }
+
+    /**
+     * 将输入流中的数据转存至文件。
+     *
+     * @param stream     输入流。
+     * @param file       目标文件。
+     * @param bufferSize 缓冲区大小（字节）。
+     * @return 转存结果。
+     */
+    private static TransferResult transferFromStream(InputStream stream, File file, int bufferSize) {
+        long startTime = System.nanoTime();
+        try (FileChannel target = openTargetChannel(file)) {
+            long transferred = copyByBuffer(Channels.newChannel(stream), target, bufferSize);
+            recordCompleted("FileIOUtil.transferToFile", startTime, transferred, transferred, bufferSize);
+            return new TransferResult(true, false, transferred, System.nanoTime() - startTime);
+        } catch (IOException e) {
+            System.err.println("FileIOUtil - Copy data from InputStream failed! Reason:[" + e.getMessage() + "]");
+            recordFailed("FileIOUtil.transferToFile", startTime, e);
+        }
+
+        return new TransferResult(false, false, 0L, System.nanoTime() - startTime);
+    }
+
+    /**
+     * 校验压缩级别与压缩策略是否有效。
+     *
+     * @param level    压缩级别。
+     * @param strategy 压缩策略。
+     * @return "true"表示有效；"false"表示无效。
+     */
+    private static boolean isValidDeflaterOption(int level, int strategy) {
+        return level >= Deflater.DEFAULT_COMPRESSION && level <= Deflater.BEST_COMPRESSION
+                && (strategy == Deflater.DEFAULT_STRATEGY || strategy == Deflater.FILTERED
+                || strategy == Deflater.HUFFMAN_ONLY);
+    }
+
+    /**
+     * 估算压缩文件解压后的长度，用作结果数组的初始容量。
+     * <p>
+     * GZIP文件的最后4个字节记录了原始长度（对2^32取模），其他格式以压缩后的长度为准。尾部记录的长度可能被篡改，因此估算值不会超过
+     * 64MB，更长的内容由结果数组自行扩容，避免文件损坏时预先分配过多内存。
+     *
+     * @param file        目标文件。
+     * @param compression 压缩格式。
+     * @return 预估的长度（字节）。
+     */
+    private static int estimateUncompressedSize(File file, Compression compression) {
+        long length = file.length();
+        long estimate = length;
+        if (compression == Compression.GZIP && length >= 18L) {
+            try (
+                    RandomAccessFile accessor = new RandomAccessFile(file, "r")
+            ) {
+                byte[] trailer = new byte[4];
+                accessor.seek(length - 4L);
+                accessor.readFully(trailer);
+                estimate = (trailer[0] & 0xFFL) | (trailer[1] & 0xFFL) << 8 | (trailer[2] & 0xFFL) << 16
+                        | (trailer[3] & 0xFFL) << 24;
+            } catch (IOException e) {
+                // 无法读取尾部时以压缩后的长度为准
+            }
+        }
+
+        return (int) Math.max(BUFFER_SIZE_DEFAULT, Math.min(estimate, UNCOMPRESSED_ESTIMATE_MAX));
+    }
+
+    /**
+     * 通过堆外缓冲区将源通道中的剩余数据写入目标通道。
+     *
+     * @param source     源通道。
+     * @param target     目标通道。
+     * @param bufferSize 缓冲区大小（字节）。
+     * @return 复制的字节数。
+     * @throws IOException 读写失败。
+     */
+    private static long copyByBuffer(ReadableByteChannel source, WritableByteChannel target, int bufferSize)
+            throws IOException {
+        ByteBuffer buffer = getBufferPool().acquireDirect(bufferSize);
+        long transferred = 0L;
+        try {
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    transferred += target.write(buffer);
+                }
+                buffer.clear();
+                buffer.limit(bufferSize);
+            }
+        } finally {
+            getBufferPool().releaseDirect(buffer);
+        }
+
+        return transferred;
+    }
+
+    /**
+     * 通过一次分散读取填充多个相邻区域。
+     * <p>
+     * 区域之间的间隔将被读取至丢弃用的缓冲区中。
+     *
+     * @param channel 文件通道。
+     * @param ranges  所有区域。
+     * @param buffers 所有Buffer。
+     * @param order   按起始位置排序后的索引。
+     * @param from    本组区域在"order"中的起始索引。
+     * @param to      本组区域在"order"中的结束索引（不包含）。
+     * @return 读取至各Buffer中的字节数。
+     * @throws IOException 读取失败。
+     */
+    private static long scatterRead(FileChannel channel, List<FileRange> ranges, List<ByteBuffer> buffers,
+                                    Integer[] order, int from, int to) throws IOException {
+        List<ByteBuffer> targets = new ArrayList<>();
+        List<ByteBuffer> views = new ArrayList<>();
+        ByteBuffer gapBuffer = null;
+        long previousEnd = ranges.get(order[from]).getOffset();
+        for (int i = from; i < to; i++) {
+            FileRange range = ranges.get(order[i]);
+            long gap = range.getOffset() - previousEnd;
+            if (gap > 0L) {
+                if (gapBuffer == null) {
+                    gapBuffer = ByteBuffer.allocate(RANGE_MERGE_GAP);
+                }
+
+                // 间隔部分的数据不需要保留，所有间隔共用同一块内存。
+                ByteBuffer gapView = gapBuffer.duplicate();
+                gapView.limit((int) gap);
+                views.add(gapView);
+                targets.add(null);
+            }
+
+            // 使用副本限制写入长度，不影响调用者设置的"limit"。
+            ByteBuffer buffer = buffers.get(order[i]);
+            ByteBuffer view = buffer.duplicate();
+            view.limit(view.position() + Math.min(range.getLength(), view.remaining()));
+            views.add(view);
+            targets.add(buffer);
+            // Buffer剩余空间不足时，区域中未读取的部分将作为下一个间隔跳过。
+            previousEnd = readEnd(range, buffer);
+        }
+
+        ByteBuffer[] array = views.toArray(new ByteBuffer[0]);
+        long needed = 0L;
+        for (ByteBuffer view : array) {
+            needed += view.remaining();
+        }
+
+        channel.position(ranges.get(order[from]).getOffset());
+        while (needed > 0L) {
+            long count = channel.read(array);
+            if (count == -1L) {
+                break;
+            }
+            needed -= count;
+        }
+
+        // 根据副本的位置更新调用者Buffer的位置，跳过间隔部分。
+        long total = 0L;
+        for (int i = 0; i < views.size(); i++) {
+            ByteBuffer target = targets.get(i);
+            if (target == null) {
+                continue;
+            }
+
+            ByteBuffer view = views.get(i);
+            total += view.position() - target.position();
+            target.position(view.position());
+        }
+
+        return total;
+    }
+
+    /**
+     * 计算区域实际读取部分的结束位置（不包含）。
+     *
+     * @param range  区域。
+     * @param buffer 接收数据的Buffer。
+     * @return 结束位置，Buffer剩余空间小于区域长度时早于区域的结束位置。
+     */
+    private static long readEnd(FileRange range, ByteBuffer buffer) {
+        return range.getOffset() + Math.min(range.getLength(), buffer.remaining());
+    }
+
+    /**
+     * 定位读取单个区域。
+     *
+     * @param channel 文件通道。
+     * @param range   区域。
+     * @param buffer  接收数据的Buffer。
+     * @return 读取的字节数。
+     * @throws IOException 读取失败。
+     */
+    private static long positionalRead(FileChannel channel, FileRange range, ByteBuffer buffer) throws IOException {
+        ByteBuffer view = buffer.duplicate();
+        view.limit(view.position() + Math.min(range.getLength(), view.remaining()));
+        long position = range.getOffset();
+        while (view.hasRemaining()) {
+            int count = channel.read(view, position);
+            if (count == -1) {
+                break;
+            }
+            position += count;
+        }
+
+        long total = view.position() - buffer.position();
+        buffer.position(view.position());
+        return total;
+    }
+
+    /**
+     * 并行复制通道中的数据至文件。
+     *
+     * @param source    源通道。
+     * @param start     源通道中的起始位置。
+     * @param file      目标文件。
+     * @param executor  线程池，为空值时创建临时线程池。
+     * @param chunkSize 每个区域的大小（字节）。
+     * @param listener  进度监听器，可以为空值。
+     * @return 转存结果。
+     * @throws IOException 获取源文件长度失败。
      */
-    private static String toHexString(byte data, boolean needPadding, boolean isUpperCase) {
-        /*
-         * 单个字节的取值范围是：[0, 255]，当它被读取为"byte"类型时，大于127的值将被映射到负数，因此我们需要将"byte"值和"0xFF"做与运
-         * 算，丢弃符号位以获取原始数值。
-         */
-        String hex = Integer.toHexString(data & 0xFF);
-        // 如果该字节对应的16进制文本只有一个字符，则在前面补"0"。
-        if (needPadding && hex.length() < 2) {
-            hex = "0" + hex;
+    private static TransferResult copyChannelParallel(FileChannel source, long start, File file,
+                                                      ExecutorService executor, long chunkSize,
+                                                      CopyProgressListener listener) throws IOException {
+        // 校验输入参数
+        if (file == null || chunkSize <= 0L) {
+            System.err.println("FileIOUtil - Target file is null or chunk size invalid!");
+            return new TransferResult(false, false, 0L, 0L);
+        }
+
+        long startTime = System.nanoTime();
+        long total = Math.max(0L, source.size() - start);
+        AtomicLong copied = new AtomicLong();
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+
+        // 未指定线程池时创建临时线程池，复制完毕后关闭。
+        ExecutorService pool = executor;
+        if (pool == null) {
+            pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
         }
 
-        if (isUpperCase) {
-            return hex.toUpperCase();
-        } else {
-            return hex;
+        List<Future<?>> futures = new ArrayList<>();
+        try (
+                RandomAccessFile accessor = new RandomAccessFile(file, "rw");
+                FileChannel target = accessor.getChannel()
+        ) {
+            // 预先设置目标文件的长度，各区域可以直接写入对应位置。
+            accessor.setLength(0L);
+            accessor.setLength(total);
+
+            for (long position = 0L; position < total; position += chunkSize) {
+                long chunkStart = position;
+                long chunkLength = Math.min(chunkSize, total - position);
+                futures.add(pool.submit(() -> {
+                    copyRange(source, start + chunkStart, target, chunkStart, chunkLength, copied, total, listener,
+                            cancelled);
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            // 校验复制的字节数
+            if (copied.get() != total) {
+                System.err.println("FileIOUtil - Copy file failed! Reason:[Copied length mismatch]");
+                return new TransferResult(false, false, copied.get(), System.nanoTime() - startTime);
+            }
+
+            recordCompleted("FileIOUtil.copyFileParallel", startTime, copied.get(), copied.get(), 0);
+            return new TransferResult(true, false, copied.get(), System.nanoTime() - startTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("FileIOUtil - Copy file interrupted!");
+            recordFailed("FileIOUtil.copyFileParallel", startTime, e);
+        } catch (ExecutionException e) {
+            System.err.println("FileIOUtil - Copy file failed! Reason:[" + e.getCause().getMessage() + "]");
+            recordFailed("FileIOUtil.copyFileParallel", startTime, e.getCause());
+        } finally {
+            // 出现错误时取消尚未完成的任务。中断正在读写的线程将导致共享的通道被关闭，因此只通知任务自行停止，并等待其退出后再关闭通道。
+            cancelled.set(true);
+            for (Future<?> future : futures) {
+                future.cancel(false);
+            }
+            awaitQuietly(futures);
+
+            if (executor == null) {
+                pool.shutdown();
+            }
         }
+
+        return new TransferResult(false, false, copied.get(), System.nanoTime() - startTime);
     }
 
+    /**
+     * 通过定位读写复制单个区域。
+     *
+     * @param source         源通道。
+     * @param sourcePosition 源通道中的起始位置。
+     * @param target         目标通道。
+     * @param targetPosition 目标通道中的起始位置。
+     * @param length         区域长度（字节）。
+     * @param copied         已复制的字节数，用于汇总进度。
+     * @param total          需要复制的总字节数。
+     * @param listener       进度监听器，可以为空值。
+     * @param cancelled      取消标记，被设置后将在当前缓冲区写入完毕后停止。
+     * @throws IOException 读写失败，或者源文件在复制期间被截断。
+     */
+    private static void copyRange(FileChannel source, long sourcePosition, FileChannel target, long targetPosition,
+                                  long length, AtomicLong copied, long total, CopyProgressListener listener,
+                                  AtomicBoolean cancelled) throws IOException {
+        ByteBuffer buffer = getBufferPool().acquireDirect(BUFFER_SIZE_1MB);
+        try {
+            long done = 0L;
+            while (done < length && !cancelled.get()) {
+                buffer.clear();
+                buffer.limit((int) Math.min(BUFFER_SIZE_1MB, length - done));
+                int count = source.read(buffer, sourcePosition + done);
+                if (count == -1) {
+                    throw new EOFException("Source file truncated during copy!");
+                }
+
+                buffer.flip();
+                long writePosition = targetPosition + done;
+                while (buffer.hasRemaining()) {
+                    writePosition += target.write(buffer, writePosition);
+                }
+
+                done += count;
+                long current = copied.addAndGet(count);
+                if (listener != null) {
+                    listener.onProgress(current, total);
+                }
+            }
+        } finally {
+            getBufferPool().releaseDirect(buffer);
+        }
+    }
+
+    /**
+     * 等待所有任务结束，忽略任务的结果与异常。
+     * <p>
+     * 已被取消的任务不会再执行，无需等待。当前线程被中断时立即返回，并保留中断标记。
+     *
+     * @param futures 任务列表。
+     */
+    private static void awaitQuietly(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            if (future.isCancelled()) {
+                continue;
+            }
+
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                // 异常已在复制过程中处理
+            }
+        }
+    }
+
+    /**
+     * 在目标文件所在目录中创建临时文件，并写入数据。
+     *
+     * @param data  数据。
+     * @param file  目标文件。
+     * @param force 是否将数据同步至磁盘。
+     * @return 临时文件。
+     * @throws IOException 创建或写入临时文件失败，此时临时文件已被删除。
+     */
+    static Path writeTempFile(byte[] data, File file, boolean force) throws IOException {
+        Path temp = createSiblingTempFile(file);
+        try (FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+
+            if (force) {
+                target.force(true);
+            }
+        } catch (IOException e) {
+            deleteSilently(temp);
+            throw e;
+        }
+
+        return temp;
+    }
+
+    /**
+     * 将已写入的临时文件同步至磁盘。
+     *
+     * @param temp 临时文件。
+     * @throws IOException 同步失败，此时临时文件已被删除。
+     */
+    static void forceTempFile(Path temp) throws IOException {
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        } catch (IOException e) {
+            deleteSilently(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * 通过原子移动将临时文件替换为目标文件，可选地在移动后同步所在目录。
+     *
+     * @param temp          临时文件。
+     * @param file          目标文件。
+     * @param syncDirectory 是否同步所在目录。
+     * @throws IOException 移动失败，此时临时文件已被删除；或者同步目录失败，此时目标文件已被替换。
+     */
+    static void moveTempFile(Path temp, File file, boolean syncDirectory) throws IOException {
+        Path target = file.toPath().toAbsolutePath();
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteSilently(temp);
+            throw e;
+        }
+
+        if (syncDirectory) {
+            syncDirectory(target.getParent());
+        }
+    }
+
+    /**
+     * 同步目录，使其中文件的创建、重命名等操作持久化。
+     * <p>
+     * 部分平台（例如Windows）不支持打开目录，此时将忽略同步操作，这些平台的文件系统会自行保证元数据的持久化。
+     *
+     * @param directory 目录。
+     * @throws IOException 同步失败。
+     */
+    static void syncDirectory(Path directory) throws IOException {
+        if (directory == null) {
+            return;
+        }
+
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+
+        try {
+            channel.force(true);
+        } finally {
+            closeSilently(channel);
+        }
+    }
+
+    /**
+     * 在目标文件所在目录中创建临时文件。
+     * <p>
+     * 临时文件与目标文件位于同一文件系统，才能进行原子移动。
+     * <p>
+     * "Files.createTempFile()"创建的文件权限固定为"rw-------"，移动后将改变目标文件的权限，因此此处直接创建文件：目标文件已存在时
+     * 复制其权限，否则与直接写入一样由系统根据"umask"设置默认权限。
+     *
+     * @param file 目标文件。
+     * @return 临时文件。
+     * @throws IOException 创建失败。
+     */
+    private static Path createSiblingTempFile(File file) throws IOException {
+        Path target = file.toPath().toAbsolutePath();
+        Path temp;
+        while (true) {
+            String suffix = Long.toUnsignedString(ThreadLocalRandom.current().nextLong());
+            temp = target.resolveSibling("." + target.getFileName() + "." + suffix + ".tmp");
+            try {
+                Files.createFile(temp);
+                break;
+            } catch (FileAlreadyExistsException e) {
+                // 名称冲突，重新生成名称。
+            }
+        }
+
+        try {
+            if (Files.exists(target) && Files.getFileStore(temp).supportsFileAttributeView(PosixFileAttributeView.class)) {
+                Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(target));
+            }
+        } catch (IOException e) {
+            deleteSilently(temp);
+            throw e;
+        }
+
+        return temp;
+    }
+
+    /**
+     * 删除文件（静默）。
+     *
+     * @param path 文件，可以为空值。
+     */
+    static void deleteSilently(Path path) {
+        if (path == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // 静默删除，无需进一步处理。
+        }
+    }
+
+    /**
+     * 打开目标文件的写入通道。
+     * <p>
+     * 文件不存在时将被创建，已存在时内容将被清空。
+     *
+     * @param file 目标文件。
+     * @return 文件通道。
+     * @throws IOException 打开文件失败。
+     */
+    private static FileChannel openTargetChannel(File file) throws IOException {
+        if (file == null) {
+            throw new IOException("Target file is null!");
+        }
+
+        return FileChannel.open(file.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+
     /**
      * 将数组转为十六进制文本。
      * <p>
-     * 与 [lib-common:base#NumberUtil] 模块中的同名方法相同。
+     * 与 [lib-common:base#NumberUtil] 模块中的同名方法相同，通过 {@link HexCodec} 查表转换。
      *
      * @param datas       待转换的数组。
      * @param needPadding 元素为单个字符时，是否在前面补"0"。
@@ -492,16 +1952,6 @@ public class FileIOUtil extends IOUtil {
      * @return 十六进制文本。永不为空，转换失败时将返回内容为空的字符串。
      */
     public static String toHexString(byte[] datas, boolean needPadding, boolean isUpperCase) {
-        if (datas == null || datas.length == 0) {
-            return "";
-        }
-
-        StringBuilder buffer = new StringBuilder();
-        for (byte b : datas) {
-            String hex = toHexString(b, needPadding, isUpperCase);
-            buffer.append(hex);
-        }
-
-        return buffer.toString();
+        return HexCodec.encode(datas, needPadding, isUpperCase);
     }
 }
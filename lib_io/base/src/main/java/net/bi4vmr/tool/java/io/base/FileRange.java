@@ -0,0 +1,79 @@
+package net.bi4vmr.tool.java.io.base;
+
+/**
+ * 文件中的一段区域。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public final class FileRange {
+
+    private final long offset;
+    private final int length;
+
+    /**
+     * 构造方法。
+     *
+     * @param offset 起始位置（从0开始计数）。
+     * @param length 长度（字节）。
+     */
+    public FileRange(long offset, int length) {
+        if (offset < 0L || length < 0) {
+            throw new IllegalArgumentException("Offset or length value invalid!");
+        }
+
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * 获取起始位置。
+     *
+     * @return 起始位置（从0开始计数）。
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * 获取长度。
+     *
+     * @return 长度（字节）。
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * 获取结束位置。
+     *
+     * @return 结束位置（不包含）。
+     */
+    public long getEnd() {
+        return offset + length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof FileRange)) {
+            return false;
+        }
+
+        FileRange other = (FileRange) o;
+        return offset == other.offset && length == other.length;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(offset) + length;
+    }
+
+    @Override
+    public String toString() {
+        return "FileRange{offset=" + offset + ", length=" + length + "}";
+    }
+}
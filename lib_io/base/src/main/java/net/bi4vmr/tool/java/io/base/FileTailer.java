@@ -0,0 +1,447 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 文件追踪器。
+ * <p>
+ * 类似于"tail -F"命令，持续读取文件中新追加的数据，并分批传递给 {@link TailListener} 。追踪期间文件通道始终保持打开，并由追踪器记录
+ * 读取位置，无需每次重新打开文件。
+ * <p>
+ * 追踪器优先通过 {@link WatchService} 监听文件所在目录的变化，同时以自适应的间隔进行轮询：读取到数据后间隔将被重置为最小值，未读取到
+ * 数据时间隔将逐步翻倍，直至最大值。
+ * <p>
+ * 文件的长度小于已读取的位置时，视为文件被截断，将从起始位置重新读取；原路径指向了新的文件时（通过
+ * {@link BasicFileAttributes#fileKey()} 判断），视为文件被轮转，将先读取完旧文件的剩余数据，再从新文件的起始位置开始读取。部分平台
+ * 不支持获取"fileKey"，此时只能通过长度变化识别轮转。
+ * <p>
+ * 读取过程中出现错误时，追踪器将关闭文件通道，并在下一次检查时重新打开，从原有的读取位置继续读取，已传递的数据不会被重复传递。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public class FileTailer implements Closeable {
+
+    /**
+     * 默认的最小轮询间隔：100毫秒。
+     */
+    private static final long DEFAULT_MIN_INTERVAL = 100L;
+
+    /**
+     * 默认的最大轮询间隔：2秒。
+     */
+    private static final long DEFAULT_MAX_INTERVAL = 2000L;
+
+    private final File file;
+    private final TailListener listener;
+    private final boolean fromEnd;
+    private final Charset charset;
+    private final long minInterval;
+    private final long maxInterval;
+
+    private volatile boolean running = false;
+    private Thread worker;
+
+    // 以下字段仅在工作线程中修改
+    private FileChannel channel;
+    private Object fileKey;
+    private boolean opened = false;
+    private volatile long position;
+    private byte[] buffer;
+    private final ByteArrayOutputStream pendingLine = new ByteArrayOutputStream();
+
+    /**
+     * 构造方法。
+     *
+     * @param file        目标文件，可以尚未创建。
+     * @param listener    监听器。
+     * @param fromEnd     是否从文件当前的末尾开始读取。"false"表示从起始位置开始读取；开始追踪时文件尚未创建的，创建后总是从起始
+     *                    位置开始读取。
+     * @param charset     按行传递文本时使用的字符集，必须兼容ASCII编码（例如UTF-8）；为空值时只传递二进制数据。
+     * @param minInterval 最小轮询间隔（毫秒）。
+     * @param maxInterval 最大轮询间隔（毫秒）。
+     */
+    public FileTailer(File file, TailListener listener, boolean fromEnd, Charset charset, long minInterval,
+                      long maxInterval) {
+        if (file == null || listener == null) {
+            throw new IllegalArgumentException("File or listener is null!");
+        }
+
+        if (minInterval <= 0L || maxInterval < minInterval) {
+            throw new IllegalArgumentException("Poll interval invalid!");
+        }
+
+        this.file = file;
+        this.listener = listener;
+        this.fromEnd = fromEnd;
+        this.charset = charset;
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+    }
+
+    /**
+     * 构造方法。
+     * <p>
+     * 从文件当前的末尾开始读取，以"UTF-8"编码按行传递文本，轮询间隔为100毫秒至2秒。
+     *
+     * @param file     目标文件，可以尚未创建。
+     * @param listener 监听器。
+     */
+    public FileTailer(File file, TailListener listener) {
+        this(file, listener, true, StandardCharsets.UTF_8, DEFAULT_MIN_INTERVAL, DEFAULT_MAX_INTERVAL);
+    }
+
+    /**
+     * 开始追踪。
+     * <p>
+     * 追踪将在新的守护线程中进行，重复调用将被忽略。
+     */
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+
+        running = true;
+        worker = new Thread(this::run, "FileTailer-" + file.getName());
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 停止追踪，并释放文件通道等资源。
+     */
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+
+        worker.interrupt();
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 获取当前的读取位置。
+     *
+     * @return 读取位置（从0开始计数）。
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * 工作线程的主循环。
+     */
+    private void run() {
+        WatchService watcher = createWatcher();
+        buffer = IOUtil.getBufferPool().acquire(IOUtil.BUFFER_SIZE_128KB);
+        long interval = minInterval;
+        // 仅当首次检查时文件已存在，才从末尾开始读取；之后才创建的文件，其内容均为新数据。
+        boolean seekToEnd = fromEnd;
+        try {
+            while (running) {
+                boolean hasData = false;
+                try {
+                    if (channel == null) {
+                        if (opened) {
+                            // 出现错误后重新打开，从原有位置继续读取。
+                            reopenChannel();
+                        } else {
+                            // 文件尚未创建
+                            openChannel(seekToEnd);
+                        }
+                    }
+                    seekToEnd = false;
+
+                    if (channel != null) {
+                        hasData = poll();
+                    }
+                } catch (IOException e) {
+                    if (!running) {
+                        break;
+                    }
+
+                    listener.onError(e);
+                    closeChannel();
+                }
+
+                if (hasData) {
+                    interval = minInterval;
+                    continue;
+                }
+
+                awaitChange(watcher, interval);
+                interval = Math.min(interval * 2, maxInterval);
+            }
+        } catch (InterruptedException e) {
+            // 追踪已被停止
+        } finally {
+            IOUtil.closeSilently(watcher);
+            closeChannel();
+            IOUtil.getBufferPool().release(buffer);
+            buffer = null;
+        }
+    }
+
+    /**
+     * 检查文件状态并读取新的数据。
+     *
+     * @return "true"表示读取到了新的数据，或者切换到了新的文件。
+     * @throws IOException 读取失败。
+     */
+    private boolean poll() throws IOException {
+        // 检查文件是否被轮转
+        Object currentKey = readFileKey();
+        if (currentKey != null && fileKey != null && !currentKey.equals(fileKey)) {
+            // 先读取完旧文件的剩余数据，再切换到新文件。
+            if (readAvailable()) {
+                return true;
+            }
+
+            flushPendingLine();
+            closeChannel();
+            openChannel(false);
+            listener.onRotated();
+            return true;
+        }
+
+        // 检查文件是否被截断
+        if (channel.size() < position) {
+            position = 0L;
+            pendingLine.reset();
+            listener.onTruncated();
+        }
+
+        return readAvailable();
+    }
+
+    /**
+     * 读取当前所有可用的数据，并分批传递给监听器。
+     *
+     * @return "true"表示读取到了新的数据。
+     * @throws IOException 读取失败。
+     */
+    private boolean readAvailable() throws IOException {
+        boolean hasData = false;
+        ByteBuffer view = ByteBuffer.wrap(buffer);
+        while (running) {
+            view.clear();
+            int count = channel.read(view, position);
+            if (count <= 0) {
+                break;
+            }
+
+            position += count;
+            hasData = true;
+
+            view.flip();
+            listener.onData(view.asReadOnlyBuffer());
+            if (charset != null) {
+                splitLines(count);
+            }
+        }
+
+        return hasData;
+    }
+
+    /**
+     * 将缓冲区中的数据按行拆分，并传递给监听器。
+     * <p>
+     * 末尾不完整的行将被暂存，与后续数据拼接。
+     *
+     * @param count 缓冲区中的有效字节数。
+     */
+    private void splitLines(int count) {
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            if (buffer[i] != '\n') {
+                continue;
+            }
+
+            if (pendingLine.size() == 0) {
+                // 整行都位于缓冲区中，直接解码。
+                int end = i;
+                if (end > start && buffer[end - 1] == '\r') {
+                    end--;
+                }
+                listener.onLine(new String(buffer, start, end - start, charset));
+            } else {
+                pendingLine.write(buffer, start, i - start);
+                flushPendingLine();
+            }
+            start = i + 1;
+        }
+
+        pendingLine.write(buffer, start, count - start);
+    }
+
+    /**
+     * 将暂存的不完整行传递给监听器。
+     */
+    private void flushPendingLine() {
+        if (charset == null || pendingLine.size() == 0) {
+            pendingLine.reset();
+            return;
+        }
+
+        byte[] bytes = pendingLine.toByteArray();
+        int length = bytes.length;
+        if (bytes[length - 1] == '\r') {
+            length--;
+        }
+        pendingLine.reset();
+        listener.onLine(new String(bytes, 0, length, charset));
+    }
+
+    /**
+     * 打开文件通道。
+     *
+     * @param seekToEnd 是否从文件末尾开始读取。
+     * @return "true"表示打开成功；"false"表示文件不存在。
+     * @throws IOException 打开文件失败。
+     */
+    private boolean openChannel(boolean seekToEnd) throws IOException {
+        if (!file.exists()) {
+            return false;
+        }
+
+        FileChannel newChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            fileKey = readFileKey();
+            position = seekToEnd ? newChannel.size() : 0L;
+        } catch (IOException e) {
+            IOUtil.closeSilently(newChannel);
+            throw e;
+        }
+
+        channel = newChannel;
+        opened = true;
+        pendingLine.reset();
+        return true;
+    }
+
+    /**
+     * 出现错误后重新打开文件通道。
+     * <p>
+     * 保留原有的读取位置与暂存的不完整行，避免已传递的数据被重复传递。文件在此期间被轮转时，从新文件的起始位置开始读取；被截断的情况
+     * 将在后续的检查中处理。
+     *
+     * @return "true"表示打开成功；"false"表示文件不存在。
+     * @throws IOException 打开文件失败。
+     */
+    private boolean reopenChannel() throws IOException {
+        if (!file.exists()) {
+            return false;
+        }
+
+        FileChannel newChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        Object currentKey;
+        try {
+            currentKey = readFileKey();
+        } catch (IOException e) {
+            IOUtil.closeSilently(newChannel);
+            throw e;
+        }
+
+        channel = newChannel;
+        if (currentKey != null && fileKey != null && !currentKey.equals(fileKey)) {
+            // 旧文件已无法读取，直接切换到新文件。
+            flushPendingLine();
+            fileKey = currentKey;
+            position = 0L;
+            listener.onRotated();
+        } else if (fileKey == null) {
+            fileKey = currentKey;
+        }
+
+        return true;
+    }
+
+    /**
+     * 关闭文件通道。
+     */
+    private void closeChannel() {
+        IOUtil.closeSilently(channel);
+        channel = null;
+    }
+
+    /**
+     * 读取文件的唯一标识。
+     *
+     * @return 文件的唯一标识。文件不存在或平台不支持时返回空值。
+     * @throws IOException 读取文件属性失败。
+     */
+    private Object readFileKey() throws IOException {
+        try {
+            return Files.readAttributes(file.toPath(), BasicFileAttributes.class).fileKey();
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 创建目录监听器。
+     *
+     * @return 目录监听器。平台不支持时返回空值，此时只进行轮询。
+     */
+    private WatchService createWatcher() {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent == null) {
+            return null;
+        }
+
+        WatchService watcher = null;
+        try {
+            Path directory = parent.toPath();
+            watcher = directory.getFileSystem().newWatchService();
+            directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            return watcher;
+        } catch (IOException | UnsupportedOperationException e) {
+            IOUtil.closeSilently(watcher);
+            return null;
+        }
+    }
+
+    /**
+     * 等待目录发生变化，或者到达轮询间隔。
+     *
+     * @param watcher  目录监听器，可以为空值。
+     * @param interval 轮询间隔（毫秒）。
+     * @throws InterruptedException 等待期间追踪被停止。
+     */
+    private void awaitChange(WatchService watcher, long interval) throws InterruptedException {
+        if (watcher == null) {
+            Thread.sleep(interval);
+            return;
+        }
+
+        WatchKey key = watcher.poll(interval, TimeUnit.MILLISECONDS);
+        if (key != null) {
+            // 目录中任何文件的变化都会触发一次读取，检查开销很小，无需过滤文件名。
+            key.pollEvents();
+            key.reset();
+        }
+    }
+}
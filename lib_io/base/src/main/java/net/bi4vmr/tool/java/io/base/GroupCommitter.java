@@ -0,0 +1,296 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 文件保存的组提交器。
+ * <p>
+ * 以 {@link SaveMode#DURABLE} 方式保存文件时，每次保存都需要等待临时文件与所在目录的磁盘同步。大量小文件并发保存时，本类将多个保存
+ * 请求合并为一批统一提交：调用者线程只负责写入临时文件，后台线程在短暂等待后依次同步这一批临时文件，逐个原子移动至目标位置，最后每个
+ * 目录只同步一次。临时文件仍需逐个同步，节省的是目录同步：次数从每个文件一次降为每批每个目录一次。
+ * <p>
+ * 保存结果通过 {@link CompletableFuture} 返回，结果为"true"时数据已经持久化。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public final class GroupCommitter implements Closeable {
+
+    /**
+     * 默认的最长等待时间：2毫秒。
+     */
+    private static final long DEFAULT_MAX_DELAY = 2L;
+
+    /**
+     * 默认的单批最大请求数量。
+     */
+    private static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+    /**
+     * 通知后台线程退出的标记。
+     */
+    private static final Pending STOP = new Pending(null, null);
+
+    private final long maxDelay;
+    private final int maxBatchSize;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Thread worker;
+    private final AtomicLong commitCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+
+    /**
+     * 保护关闭状态与请求入队：请求入队时持有读锁，关闭时持有写锁，确保关闭后不会再有请求进入队列。
+     */
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+    private volatile boolean closed = false;
+
+    /**
+     * 构造方法。
+     *
+     * @param maxDelay     收到第一个请求后，等待更多请求加入同一批的最长时间（毫秒）。
+     * @param maxBatchSize 单批最大请求数量，达到该数量后立即提交。
+     */
+    public GroupCommitter(long maxDelay, int maxBatchSize) {
+        if (maxDelay < 0L || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Max delay or batch size invalid!");
+        }
+
+        this.maxDelay = maxDelay;
+        this.maxBatchSize = maxBatchSize;
+        this.worker = new Thread(this::run, "GroupCommitter");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 构造方法。
+     * <p>
+     * 默认最长等待2毫秒，单批最多64个请求。
+     */
+    public GroupCommitter() {
+        this(DEFAULT_MAX_DELAY, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * 保存文件。
+     * <p>
+     * 数据将在调用者线程中写入临时文件，随后由后台线程批量同步并移动至目标位置。
+     *
+     * @param data 字节数组。
+     * @param file 目标文件。
+     * @return 保存结果。"true"表示数据已持久化；"false"表示保存失败，此时目标文件保持原样。若目标文件替换完成后同步所在目录失败，
+     * 结果同样为"false"，此时目标文件已被替换为新的内容，但无法确认其已持久化。
+     */
+    public CompletableFuture<Boolean> save(byte[] data, File file) {
+        // 校验输入参数
+        if (data == null || file == null) {
+            System.err.println("GroupCommitter - Data or file is null!");
+            return CompletableFuture.completedFuture(false);
+        }
+
+        if (closed) {
+            System.err.println("GroupCommitter - Committer is closed!");
+            return CompletableFuture.completedFuture(false);
+        }
+
+        Path temp;
+        try {
+            temp = FileIOUtil.writeTempFile(data, file, false);
+        } catch (IOException e) {
+            System.err.println("GroupCommitter - Write temp file failed! Reason:[" + e.getMessage() + "]");
+            return CompletableFuture.completedFuture(false);
+        }
+
+        // 写入临时文件期间可能已被关闭，此时后台线程可能已经退出，需要放弃本次请求。
+        closeLock.readLock().lock();
+        try {
+            if (!closed) {
+                Pending pending = new Pending(temp, file);
+                queue.add(pending);
+                return pending.future;
+            }
+        } finally {
+            closeLock.readLock().unlock();
+        }
+
+        System.err.println("GroupCommitter - Committer is closed!");
+        FileIOUtil.deleteSilently(temp);
+        return CompletableFuture.completedFuture(false);
+    }
+
+    /**
+     * 获取已提交的文件数量。
+     *
+     * @return 文件数量。
+     */
+    public long getCommitCount() {
+        return commitCount.get();
+    }
+
+    /**
+     * 获取已提交的批次数量。
+     * <p>
+     * 与 {@link #getCommitCount()} 的比值即为平均每批合并的文件数量。
+     *
+     * @return 批次数量。
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * 提交所有等待中的请求，然后停止后台线程。
+     */
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            queue.add(STOP);
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 后台线程的主循环。
+     */
+    private void run() {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        boolean stopping = false;
+        while (!stopping) {
+            try {
+                Pending first = queue.take();
+                if (first == STOP) {
+                    break;
+                }
+                batch.add(first);
+
+                // 等待更多请求加入同一批
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelay);
+                while (batch.size() < maxBatchSize) {
+                    Pending next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    if (next == STOP) {
+                        stopping = true;
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                stopping = true;
+            }
+
+            commit(batch);
+            batch.clear();
+        }
+
+        // 关闭前加入的请求仍需提交
+        queue.drainTo(batch);
+        batch.remove(STOP);
+        commit(batch);
+    }
+
+    /**
+     * 提交一批请求。
+     *
+     * @param batch 请求列表。
+     */
+    private void commit(List<Pending> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // 依次同步所有临时文件
+        List<Pending> synced = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            try {
+                FileIOUtil.forceTempFile(pending.temp);
+                synced.add(pending);
+            } catch (IOException e) {
+                fail(pending, e);
+            }
+        }
+
+        // 逐个移动至目标位置，记录涉及的目录。
+        List<Pending> moved = new ArrayList<>(synced.size());
+        Set<Path> directories = new LinkedHashSet<>();
+        for (Pending pending : synced) {
+            try {
+                FileIOUtil.moveTempFile(pending.temp, pending.file, false);
+                moved.add(pending);
+                directories.add(pending.file.toPath().toAbsolutePath().getParent());
+            } catch (IOException e) {
+                fail(pending, e);
+            }
+        }
+
+        // 每个目录只同步一次
+        Set<Path> failedDirectories = new LinkedHashSet<>();
+        for (Path directory : directories) {
+            try {
+                FileIOUtil.syncDirectory(directory);
+            } catch (IOException e) {
+                System.err.println("GroupCommitter - Sync directory failed! Directory:[" + directory + "] Reason:["
+                        + e.getMessage() + "]");
+                failedDirectories.add(directory);
+            }
+        }
+
+        // 先更新统计数据，调用者在结果返回后即可读取。
+        commitCount.addAndGet(batch.size());
+        batchCount.incrementAndGet();
+        for (Pending pending : moved) {
+            Path directory = pending.file.toPath().toAbsolutePath().getParent();
+            pending.future.complete(!failedDirectories.contains(directory));
+        }
+    }
+
+    private static void fail(Pending pending, IOException e) {
+        System.err.println("GroupCommitter - Commit file failed! File:[" + pending.file + "] Reason:["
+                + e.getMessage() + "]");
+        pending.future.complete(false);
+    }
+
+    /**
+     * 等待提交的请求。
+     */
+    private static final class Pending {
+
+        private final Path temp;
+        private final File file;
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        Pending(Path temp, File file) {
+            this.temp = temp;
+            this.file = file;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+
+/**
+ * 十六进制编解码工具。
+ * <p>
+ * 通过查表完成字节与字符之间的转换，结果直接写入预先分配的数组中，转换过程不会为单个字节创建任何对象。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public final class HexCodec {
+
+    private static final char[] DIGITS_UPPER = "0123456789ABCDEF".toCharArray();
+    private static final char[] DIGITS_LOWER = "0123456789abcdef".toCharArray();
+
+    /**
+     * 字符到数值的映射表，非十六进制字符对应"-1"。
+     */
+    private static final byte[] VALUES = new byte[128];
+
+    /**
+     * 写入Appendable时，每批转换的字符数量。
+     */
+    private static final int APPEND_CHUNK_SIZE = 1024;
+
+    static {
+        for (int i = 0; i < VALUES.length; i++) {
+            VALUES[i] = -1;
+        }
+        for (int i = 0; i < 16; i++) {
+            VALUES[DIGITS_UPPER[i]] = (byte) i;
+            VALUES[DIGITS_LOWER[i]] = (byte) i;
+        }
+    }
+
+    private HexCodec() {
+    }
+
+    /**
+     * 将数组转为十六进制字符数组。
+     * <p>
+     * 不补"0"时，数值小于16的字节只对应一个字符，结果数组将被截取至实际长度。
+     *
+     * @param datas       待转换的数组。
+     * @param offset      起始位置。
+     * @param length      转换的字节数。
+     * @param needPadding 元素为单个字符时，是否在前面补"0"。
+     * @param isUpperCase 是否使用大写字母。
+     * @return 十六进制字符数组。
+     */
+    public static char[] encodeToChars(byte[] datas, int offset, int length, boolean needPadding,
+                                       boolean isUpperCase) {
+        char[] result = new char[length * 2];
+        int count = encode(datas, offset, length, needPadding, isUpperCase, result, 0);
+        if (count == result.length) {
+            return result;
+        }
+
+        char[] trimmed = new char[count];
+        System.arraycopy(result, 0, trimmed, 0, count);
+        return trimmed;
+    }
+
+    /**
+     * 将数组转为十六进制文本。
+     *
+     * @param datas       待转换的数组。
+     * @param needPadding 元素为单个字符时，是否在前面补"0"。
+     * @param isUpperCase 是否使用大写字母。
+     * @return 十六进制文本。永不为空，输入为空值时将返回内容为空的字符串。
+     */
+    public static String encode(byte[] datas, boolean needPadding, boolean isUpperCase) {
+        if (datas == null || datas.length == 0) {
+            return "";
+        }
+
+        char[] result = new char[datas.length * 2];
+        int count = encode(datas, 0, datas.length, needPadding, isUpperCase, result, 0);
+        return new String(result, 0, count);
+    }
+
+    /**
+     * 将数组转为十六进制文本，以ASCII编码的字节数组形式返回。
+     * <p>
+     * 适用于需要直接写入输出流或网络的场景，避免再次编码文本。
+     *
+     * @param datas       待转换的数组。
+     * @param needPadding 元素为单个字符时，是否在前面补"0"。
+     * @param isUpperCase 是否使用大写字母。
+     * @return ASCII编码的十六进制文本。永不为空，输入为空值时将返回内容为空的数组。
+     */
+    public static byte[] encodeToBytes(byte[] datas, boolean needPadding, boolean isUpperCase) {
+        if (datas == null || datas.length == 0) {
+            return new byte[0];
+        }
+
+        char[] digits = isUpperCase ? DIGITS_UPPER : DIGITS_LOWER;
+        byte[] result = new byte[datas.length * 2];
+        int position = 0;
+        for (byte data : datas) {
+            int value = data & 0xFF;
+            if (needPadding || value >= 0x10) {
+                result[position++] = (byte) digits[value >>> 4];
+            }
+            result[position++] = (byte) digits[value & 0x0F];
+        }
+
+        if (position == result.length) {
+            return result;
+        }
+
+        byte[] trimmed = new byte[position];
+        System.arraycopy(result, 0, trimmed, 0, position);
+        return trimmed;
+    }
+
+    /**
+     * 将数组转为十六进制文本，并追加至Appendable中。
+     *
+     * @param datas       待转换的数组。
+     * @param needPadding 元素为单个字符时，是否在前面补"0"。
+     * @param isUpperCase 是否使用大写字母。
+     * @param output      输出目标，例如 {@link StringBuilder} 或 {@link java.io.Writer} 。
+     * @throws IOException 写入输出目标失败。
+     */
+    public static void encode(byte[] datas, boolean needPadding, boolean isUpperCase, Appendable output)
+            throws IOException {
+        if (datas == null || datas.length == 0) {
+            return;
+        }
+
+        if (output instanceof StringBuilder) {
+            // 预先扩容，避免追加过程中多次复制。
+            StringBuilder builder = (StringBuilder) output;
+            builder.ensureCapacity(builder.length() + datas.length * 2);
+        }
+
+        // 分批转换至局部数组，再批量追加。
+        char[] chunk = new char[Math.min(datas.length * 2, APPEND_CHUNK_SIZE)];
+        int bytesPerChunk = chunk.length / 2;
+        for (int offset = 0; offset < datas.length; offset += bytesPerChunk) {
+            int length = Math.min(bytesPerChunk, datas.length - offset);
+            int count = encode(datas, offset, length, needPadding, isUpperCase, chunk, 0);
+            if (output instanceof StringBuilder) {
+                ((StringBuilder) output).append(chunk, 0, count);
+            } else {
+                output.append(CharBuffer.wrap(chunk, 0, count));
+            }
+        }
+    }
+
+    /**
+     * 将十六进制文本转为数组。
+     * <p>
+     * 文本中的每两个字符对应一个字节，因此只能还原补"0"后的文本；字母不区分大小写。
+     *
+     * @param text 十六进制文本。
+     * @return 字节数组。永不为空，文本格式错误时将返回内容为空的数组。
+     */
+    public static byte[] decode(CharSequence text) {
+        if (text == null || text.length() == 0) {
+            return new byte[0];
+        }
+
+        if (text.length() % 2 != 0) {
+            System.err.println("HexCodec - Text length must be even!");
+            return new byte[0];
+        }
+
+        byte[] result = new byte[text.length() / 2];
+        for (int i = 0; i < result.length; i++) {
+            int high = valueOf(text.charAt(i * 2));
+            int low = valueOf(text.charAt(i * 2 + 1));
+            if (high < 0 || low < 0) {
+                System.err.println("HexCodec - Invalid hex character at:[" + (i * 2) + "]");
+                return new byte[0];
+            }
+            result[i] = (byte) ((high << 4) | low);
+        }
+
+        return result;
+    }
+
+    /**
+     * 将数组转为十六进制字符，并写入目标数组中。
+     *
+     * @param datas       待转换的数组。
+     * @param offset      起始位置。
+     * @param length      转换的字节数。
+     * @param needPadding 元素为单个字符时，是否在前面补"0"。
+     * @param isUpperCase 是否使用大写字母。
+     * @param target      目标数组，剩余空间至少为"length"的两倍。
+     * @param position    目标数组的起始位置。
+     * @return 写入的字符数。
+     */
+    private static int encode(byte[] datas, int offset, int length, boolean needPadding, boolean isUpperCase,
+                              char[] target, int position) {
+        char[] digits = isUpperCase ? DIGITS_UPPER : DIGITS_LOWER;
+        int start = position;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            /*
+             * 单个字节的取值范围是：[0, 255]，当它被读取为"byte"类型时，大于127的值将被映射到负数，因此我们需要将"byte"值和"0xFF"
+             * 做与运算，丢弃符号位以获取原始数值。
+             */
+            int value = datas[i] & 0xFF;
+            if (needPadding || value >= 0x10) {
+                target[position++] = digits[value >>> 4];
+            }
+            target[position++] = digits[value & 0x0F];
+        }
+
+        return position - start;
+    }
+
+    /**
+     * 获取十六进制字符对应的数值。
+     *
+     * @param c 字符。
+     * @return 数值，非十六进制字符时返回"-1"。
+     */
+    private static int valueOf(char c) {
+        if (c >= VALUES.length) {
+            return -1;
+        }
+
+        return VALUES[c];
+    }
+}
@@ -0,0 +1,233 @@
+package net.bi4vmr.tool.java.io.base;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * 输入输出指标统计。
+ * <p>
+ * {@link IOMetricsListener} 的默认实现，按方法分别汇总调用次数、失败次数、读写字节数、耗时直方图、缓冲区大小以及失败原因，并实现了
+ * {@link IOMetricsMXBean} 接口。调用 {@link #install()} 方法即可开始统计，并通过JMX（JConsole、VisualVM等工具）查看各项指标，
+ * 无需启动性能分析器。
+ * <p>
+ * 该类是线程安全的。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public final class IOMetrics implements IOMetricsListener, IOMetricsMXBean {
+
+    /**
+     * 注册至JMX时使用的名称。
+     */
+    public static final String OBJECT_NAME = "net.bi4vmr.tool.java.io:type=IOMetrics";
+
+    private final Map<String, ApiStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * 创建统计实例，注册至平台MBeanServer，并设置为全局监听器。
+     * <p>
+     * 已存在同名的MBean时将替换原有注册；注册失败时仍会设置为全局监听器，只是无法通过JMX查看。
+     *
+     * @return 统计实例。
+     */
+    public static IOMetrics install() {
+        IOMetrics metrics = new IOMetrics();
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(metrics, name);
+        } catch (JMException e) {
+            System.err.println("IOMetrics - Register MBean failed! Reason:[" + e.getMessage() + "]");
+        }
+
+        IOUtil.setMetricsListener(metrics);
+        return metrics;
+    }
+
+    /**
+     * 停止统计，恢复为不进行统计的监听器，并从平台MBeanServer中注销。
+     */
+    public static void uninstall() {
+        IOUtil.setMetricsListener(null);
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            System.err.println("IOMetrics - Unregister MBean failed! Reason:[" + e.getMessage() + "]");
+        }
+    }
+
+    @Override
+    public void onCompleted(String api, long bytesRead, long bytesWritten, long elapsedNanos, int bufferSize) {
+        ApiStats stat = statsOf(api);
+        stat.calls.increment();
+        if (bytesRead > 0L) {
+            stat.bytesRead.add(bytesRead);
+        }
+        if (bytesWritten > 0L) {
+            stat.bytesWritten.add(bytesWritten);
+        }
+        stat.latency.record(elapsedNanos);
+        if (bufferSize > 0) {
+            stat.bufferSizes.computeIfAbsent(bufferSize, key -> new LongAdder()).increment();
+        }
+    }
+
+    @Override
+    public void onFailed(String api, long elapsedNanos, Throwable cause) {
+        ApiStats stat = statsOf(api);
+        stat.calls.increment();
+        stat.failures.increment();
+        stat.latency.record(elapsedNanos);
+        String reason = cause == null ? "Unknown" : cause.getClass().getName();
+        stat.causes.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 获取指定方法的耗时直方图（纳秒）。
+     *
+     * @param api 方法名称。
+     * @return 耗时直方图，方法尚未被调用时返回空值。
+     */
+    public LatencyHistogram getLatencyHistogram(String api) {
+        ApiStats stat = stats.get(api);
+        return stat == null ? null : stat.latency;
+    }
+
+    @Override
+    public long getTotalCalls() {
+        return sum(stat -> stat.calls.sum());
+    }
+
+    @Override
+    public long getTotalFailures() {
+        return sum(stat -> stat.failures.sum());
+    }
+
+    @Override
+    public long getTotalBytesRead() {
+        return sum(stat -> stat.bytesRead.sum());
+    }
+
+    @Override
+    public long getTotalBytesWritten() {
+        return sum(stat -> stat.bytesWritten.sum());
+    }
+
+    @Override
+    public Map<String, Long> getCalls() {
+        return collect(stat -> stat.calls.sum());
+    }
+
+    @Override
+    public Map<String, Long> getFailures() {
+        return collect(stat -> stat.failures.sum());
+    }
+
+    @Override
+    public Map<String, Long> getBytesRead() {
+        return collect(stat -> stat.bytesRead.sum());
+    }
+
+    @Override
+    public Map<String, Long> getBytesWritten() {
+        return collect(stat -> stat.bytesWritten.sum());
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP50Micros() {
+        return collect(stat -> toMicros(stat.latency.getValueAtPercentile(50.0)));
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP99Micros() {
+        return collect(stat -> toMicros(stat.latency.getValueAtPercentile(99.0)));
+    }
+
+    @Override
+    public Map<String, Long> getLatencyMaxMicros() {
+        return collect(stat -> toMicros(stat.latency.getMax()));
+    }
+
+    @Override
+    public Map<String, Long> getBufferSizeUsage() {
+        Map<String, Long> result = new TreeMap<>();
+        stats.forEach((api, stat) -> stat.bufferSizes.forEach((size, count) -> result.put(api + "@" + size,
+                count.sum())));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getFailureCauses() {
+        Map<String, Long> result = new TreeMap<>();
+        stats.forEach((api, stat) -> stat.causes.forEach((cause, count) -> result.put(api + ":" + cause,
+                count.sum())));
+        return result;
+    }
+
+    @Override
+    public long getLatencyPercentileMicros(String api, double percentile) {
+        ApiStats stat = stats.get(api);
+        return stat == null ? 0L : toMicros(stat.latency.getValueAtPercentile(percentile));
+    }
+
+    @Override
+    public void reset() {
+        stats.clear();
+    }
+
+    private ApiStats statsOf(String api) {
+        ApiStats stat = stats.get(api);
+        if (stat == null) {
+            stat = stats.computeIfAbsent(api, key -> new ApiStats());
+        }
+        return stat;
+    }
+
+    private long sum(ToLongFunction<ApiStats> getter) {
+        long total = 0L;
+        for (ApiStats stat : stats.values()) {
+            total += getter.applyAsLong(stat);
+        }
+        return total;
+    }
+
+    private Map<String, Long> collect(ToLongFunction<ApiStats> getter) {
+        Map<String, Long> result = new TreeMap<>();
+        stats.forEach((api, stat) -> result.put(api, getter.applyAsLong(stat)));
+        return result;
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    /**
+     * 单个方法的统计数据。
+     */
+    private static final class ApiStats {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder bytesRead = new LongAdder();
+        private final LongAdder bytesWritten = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final Map<Integer, LongAdder> bufferSizes = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> causes = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,44 @@
+package net.bi4vmr.tool.java.io.base;
+
+/**
+ * 输入输出指标监听器。
+ * <p>
+ * 通过 {@link IOUtil#setMetricsListener(IOMetricsListener)} 方法注册后，本模块的读写方法在每次调用结束时回调该监听器，报告读写字节数、
+ * 耗时、缓冲区大小以及失败原因。默认使用 {@link #NOOP} ，不进行任何统计。
+ * <p>
+ * 回调在调用者线程中同步执行，实现类必须是线程安全的，并且应当尽快返回；回调中抛出的异常将被忽略，不影响读写方法的结果。
+ * {@link IOMetrics} 是本接口的默认实现，能够汇总各项指标并通过JMX查看。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public interface IOMetricsListener {
+
+    /**
+     * 不进行任何统计的监听器。
+     */
+    IOMetricsListener NOOP = new IOMetricsListener() {
+    };
+
+    /**
+     * 读写方法调用成功。
+     *
+     * @param api          方法名称，格式为"类名.方法名"，例如"FileIOUtil.readAsBytes"。
+     * @param bytesRead    读取的字节数，无法统计时为"-1"。
+     * @param bytesWritten 写入的字节数，无法统计时为"-1"。
+     * @param elapsedNanos 耗时（纳秒）。
+     * @param bufferSize   使用的缓冲区大小（字节），未使用缓冲区时为"0"。
+     */
+    default void onCompleted(String api, long bytesRead, long bytesWritten, long elapsedNanos, int bufferSize) {
+    }
+
+    /**
+     * 读写方法调用失败。
+     *
+     * @param api          方法名称，格式为"类名.方法名"，例如"FileIOUtil.readAsBytes"。
+     * @param elapsedNanos 耗时（纳秒）。
+     * @param cause        失败原因。
+     */
+    default void onFailed(String api, long elapsedNanos, Throwable cause) {
+    }
+}
@@ -0,0 +1,119 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.util.Map;
+
+/**
+ * 输入输出指标的JMX管理接口。
+ * <p>
+ * 以"Map"形式返回的指标均以方法名称为键，可以在JConsole等工具中直接按方法查看。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public interface IOMetricsMXBean {
+
+    /**
+     * 获取调用总次数（包括失败的调用）。
+     *
+     * @return 调用次数。
+     */
+    long getTotalCalls();
+
+    /**
+     * 获取失败总次数。
+     *
+     * @return 失败次数。
+     */
+    long getTotalFailures();
+
+    /**
+     * 获取读取的总字节数。
+     *
+     * @return 字节数。
+     */
+    long getTotalBytesRead();
+
+    /**
+     * 获取写入的总字节数。
+     *
+     * @return 字节数。
+     */
+    long getTotalBytesWritten();
+
+    /**
+     * 获取各方法的调用次数。
+     *
+     * @return 方法名称与调用次数。
+     */
+    Map<String, Long> getCalls();
+
+    /**
+     * 获取各方法的失败次数。
+     *
+     * @return 方法名称与失败次数。
+     */
+    Map<String, Long> getFailures();
+
+    /**
+     * 获取各方法读取的字节数。
+     *
+     * @return 方法名称与字节数。
+     */
+    Map<String, Long> getBytesRead();
+
+    /**
+     * 获取各方法写入的字节数。
+     *
+     * @return 方法名称与字节数。
+     */
+    Map<String, Long> getBytesWritten();
+
+    /**
+     * 获取各方法耗时的中位数（微秒）。
+     *
+     * @return 方法名称与耗时。
+     */
+    Map<String, Long> getLatencyP50Micros();
+
+    /**
+     * 获取各方法耗时的99百分位数（微秒）。
+     *
+     * @return 方法名称与耗时。
+     */
+    Map<String, Long> getLatencyP99Micros();
+
+    /**
+     * 获取各方法耗时的最大值（微秒）。
+     *
+     * @return 方法名称与耗时。
+     */
+    Map<String, Long> getLatencyMaxMicros();
+
+    /**
+     * 获取各方法使用各缓冲区大小的次数。
+     *
+     * @return 键为"方法名称@缓冲区大小"，值为使用次数。
+     */
+    Map<String, Long> getBufferSizeUsage();
+
+    /**
+     * 获取各方法的失败原因。
+     *
+     * @return 键为"方法名称:异常类名"，值为失败次数。
+     */
+    Map<String, Long> getFailureCauses();
+
+    /**
+     * 获取指定方法耗时的百分位数（微秒）。
+     *
+     * @param api        方法名称。
+     * @param percentile 百分位，取值范围为"0"至"100"。
+     * @return 耗时，方法不存在时为"0"。
+     */
+    long getLatencyPercentileMicros(String api, double percentile);
+
+    /**
+     * 清空所有指标。
+     */
+    void reset();
+}
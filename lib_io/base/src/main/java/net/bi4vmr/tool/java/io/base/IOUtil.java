@@ -1,6 +1,10 @@
 package net.bi4vmr.tool.java.io.base;
 
 import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
 
 /**
  * 通用输入与输出工具。
@@ -55,6 +59,90 @@ public class IOUtil {
      */
     public final static int BUFFER_SIZE_32MB = 32 * 1024 * 1024;
 
+    /**
+     * 共享的缓冲区池，堆内与堆外缓冲区各保留最多64MB。
+     */
+    private final static BufferPool BUFFER_POOL = new BufferPool(64 * 1024 * 1024L, 64 * 1024 * 1024L);
+
+    /**
+     * 输入输出指标监听器，默认不进行任何统计。
+     */
+    private static volatile IOMetricsListener metricsListener = IOMetricsListener.NOOP;
+
+
+    /**
+     * 获取共享的缓冲区池。
+     * <p>
+     * 本模块的读写方法均从该池中获取缓冲区，调用者可以通过它查看命中情况，或在自定义的读写逻辑中复用缓冲区。
+     *
+     * @return 缓冲区池。
+     */
+    public static BufferPool getBufferPool() {
+        return BUFFER_POOL;
+    }
+
+    /**
+     * 设置输入输出指标监听器。
+     * <p>
+     * 本模块的读写方法在每次调用结束时回调该监听器，参见 {@link IOMetricsListener} 。
+     *
+     * @param listener 监听器，传入空值时恢复为不进行任何统计的监听器。
+     */
+    public static void setMetricsListener(IOMetricsListener listener) {
+        metricsListener = listener == null ? IOMetricsListener.NOOP : listener;
+    }
+
+    /**
+     * 获取输入输出指标监听器。
+     *
+     * @return 监听器。永不为空值，未设置时返回 {@link IOMetricsListener#NOOP} 。
+     */
+    public static IOMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * 报告读写方法调用成功。
+     *
+     * @param api          方法名称。
+     * @param startTime    调用开始时 {@link System#nanoTime()} 的值。
+     * @param bytesRead    读取的字节数，无法统计时为"-1"。
+     * @param bytesWritten 写入的字节数，无法统计时为"-1"。
+     * @param bufferSize   使用的缓冲区大小（字节），未使用缓冲区时为"0"。
+     */
+    protected static void recordCompleted(String api, long startTime, long bytesRead, long bytesWritten,
+                                          int bufferSize) {
+        IOMetricsListener listener = metricsListener;
+        if (listener == IOMetricsListener.NOOP) {
+            return;
+        }
+
+        try {
+            listener.onCompleted(api, bytesRead, bytesWritten, System.nanoTime() - startTime, bufferSize);
+        } catch (RuntimeException e) {
+            // 监听器的异常不影响读写方法的结果
+        }
+    }
+
+    /**
+     * 报告读写方法调用失败。
+     *
+     * @param api       方法名称。
+     * @param startTime 调用开始时 {@link System#nanoTime()} 的值。
+     * @param cause     失败原因。
+     */
+    protected static void recordFailed(String api, long startTime, Throwable cause) {
+        IOMetricsListener listener = metricsListener;
+        if (listener == IOMetricsListener.NOOP) {
+            return;
+        }
+
+        try {
+            listener.onFailed(api, System.nanoTime() - startTime, cause);
+        } catch (RuntimeException e) {
+            // 监听器的异常不影响读写方法的结果
+        }
+    }
 
     /**
      * 释放资源。
@@ -98,4 +186,87 @@ public class IOUtil {
             // 静默关闭，无需进一步处理。
         }
     }
+
+    /**
+     * 跳过输入流中指定长度的数据。
+     * <p>
+     * 对于文件输入流（包括由文件描述符创建的输入流），将直接移动对应 {@link FileChannel} 的读取位置，耗时与跳过的长度无关；对于其他
+     * 输入流，优先调用 {@link InputStream#skip(long)} 方法，该方法无法跳过时改为读取数据至缓冲区后丢弃，每次丢弃一整个缓冲区的数据。
+     * <p>
+     * 返回值小于"count"表示已到达流的末尾。
+     *
+     * @param input 输入流。
+     * @param count 需要跳过的字节数。
+     * @return 实际跳过的字节数。
+     * @throws IOException 读取失败。
+     */
+    protected static long skipFully(InputStream input, long count) throws IOException {
+        if (count <= 0L) {
+            return 0L;
+        }
+
+        if (input instanceof FileInputStream) {
+            long skipped = seek(((FileInputStream) input).getChannel(), count);
+            if (skipped >= 0L) {
+                return skipped;
+            }
+        }
+
+        byte[] scratch = null;
+        long skipped = 0L;
+        try {
+            while (skipped < count) {
+                long result = input.skip(count - skipped);
+                if (result > 0L) {
+                    // 跳过操作成功，累计偏移量。
+                    skipped += result;
+                    continue;
+                }
+
+                // 跳过操作失败，改为读取并丢弃数据，同时检测是否已到达末尾。
+                if (scratch == null) {
+                    scratch = BUFFER_POOL.acquire(BUFFER_SIZE_128KB);
+                }
+
+                int readCount = input.read(scratch, 0, (int) Math.min(scratch.length, count - skipped));
+                if (readCount == -1) {
+                    break;
+                }
+                skipped += readCount;
+            }
+        } finally {
+            BUFFER_POOL.release(scratch);
+        }
+
+        return skipped;
+    }
+
+    /**
+     * 通过移动读取位置跳过文件通道中的数据。
+     *
+     * @param channel 文件通道。
+     * @param count   需要跳过的字节数。
+     * @return 实际跳过的字节数。通道不支持定位时（例如管道或设备文件）返回"-1"。
+     */
+    private static long seek(FileChannel channel, long count) {
+        try {
+            long position = channel.position();
+            long size = channel.size();
+            // 设备文件等特殊文件的长度为"0"，无法据此判断末尾位置。
+            if (size <= 0L) {
+                return -1L;
+            }
+
+            if (position >= size) {
+                return 0L;
+            }
+
+            long target = count < size - position ? position + count : size;
+
+            channel.position(target);
+            return target - position;
+        } catch (IOException e) {
+            return -1L;
+        }
+    }
 }
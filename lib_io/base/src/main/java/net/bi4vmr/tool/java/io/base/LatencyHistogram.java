@@ -0,0 +1,145 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 耗时直方图。
+ * <p>
+ * 采用与HdrHistogram相同的对数-线性分桶方式：每个2的幂区间再等分为32个子桶，在任意量级上的相对误差均不超过约3%，而桶的总数固定，
+ * 记录操作只需一次原子自增，不会分配内存。
+ * <p>
+ * 该类是线程安全的。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public final class LatencyHistogram {
+
+    /**
+     * 子桶数量的位数：每个2的幂区间划分为32个子桶。
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * 桶的总数，覆盖"long"类型的全部非负值。
+     */
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalValue = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * 记录一个数值。
+     *
+     * @param value 数值，负数将被视为"0"。
+     */
+    public void record(long value) {
+        long v = Math.max(value, 0L);
+        counts.incrementAndGet(indexOf(v));
+        totalCount.incrementAndGet();
+        totalValue.addAndGet(v);
+        maxValue.accumulateAndGet(v, Math::max);
+    }
+
+    /**
+     * 获取已记录的数值数量。
+     *
+     * @return 数量。
+     */
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * 获取已记录的最大值。
+     *
+     * @return 最大值，未记录任何数值时为"0"。
+     */
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * 获取已记录数值的平均值。
+     *
+     * @return 平均值，未记录任何数值时为"0"。
+     */
+    public double getMean() {
+        long count = totalCount.get();
+        return count == 0L ? 0.0 : (double) totalValue.get() / count;
+    }
+
+    /**
+     * 获取百分位数。
+     * <p>
+     * 返回值为目标数值所在桶的上界，与真实值的相对误差不超过约3%。
+     *
+     * @param percentile 百分位，取值范围为"0"至"100"。
+     * @return 百分位数，未记录任何数值时为"0"。
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = totalCount.get();
+        if (count == 0L) {
+            return 0L;
+        }
+
+        double p = Math.min(Math.max(percentile, 0.0), 100.0);
+        long target = Math.max(1L, (long) Math.ceil(p / 100.0 * count));
+        long seen = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestValueOf(i), maxValue.get());
+            }
+        }
+
+        return maxValue.get();
+    }
+
+    /**
+     * 清空所有记录。
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0L);
+        }
+        totalCount.set(0L);
+        totalValue.set(0L);
+        maxValue.set(0L);
+    }
+
+    /**
+     * 计算数值所在桶的索引。
+     * <p>
+     * 小于32的数值各占一个桶；其他数值以最高位确定所在的2的幂区间，再以其后的5位确定子桶。
+     */
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * 计算桶的上界（包含）。
+     */
+    private static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long top = SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT;
+        long upper = ((top + 1L) << shift) - 1L;
+        // 最后一个桶的上界超出"long"类型的范围
+        return upper < 0L ? Long.MAX_VALUE : upper;
+    }
+}
@@ -0,0 +1,172 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 逐行读取文本的迭代器。
+ * <p>
+ * 输入流中的数据被解码至一个可复用的字符缓冲区中，每次只保留当前行的内容，内存占用与数据总量无关，适合处理体积巨大的日志等文本。
+ * <p>
+ * 为了避免为每行创建新的对象，{@link #next()} 方法返回的 {@link CharSequence} 实例将被复用，它的内容仅在下一次调用
+ * {@link #hasNext()} 或 {@link #next()} 方法之前有效，如需保留请调用 {@link CharSequence#toString()} 方法复制。
+ * <p>
+ * 行结束符可以是"\n"、"\r"或"\r\n"；关闭该迭代器时，输入流也将被关闭。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public final class LineReader implements Iterator<CharSequence>, Closeable {
+
+    private final Reader reader;
+    private final char[] buffer;
+    private final boolean keepTerminator;
+    private final StringBuilder line = new StringBuilder();
+
+    // 缓冲区中有效数据的范围
+    private int position = 0;
+    private int limit = 0;
+
+    // 是否已经读取到了输入流末尾
+    private boolean endOfStream = false;
+    // "line"中是否有尚未被取走的行
+    private boolean lineReady = false;
+
+    /**
+     * 构造方法。
+     *
+     * @param stream         输入流。
+     * @param bufferSize     缓冲区大小（字符）。
+     * @param charset        字符集。
+     * @param keepTerminator 是否在每行末尾保留原始的行结束符。
+     */
+    public LineReader(InputStream stream, int bufferSize, Charset charset, boolean keepTerminator) {
+        if (stream == null) {
+            throw new IllegalArgumentException("InputStream is null!");
+        }
+
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must > 0!");
+        }
+
+        this.reader = new InputStreamReader(stream, charset);
+        this.buffer = new char[bufferSize];
+        this.keepTerminator = keepTerminator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (lineReady) {
+            return true;
+        }
+
+        try {
+            lineReady = readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return lineReady;
+    }
+
+    /**
+     * 获取下一行文本。
+     * <p>
+     * 返回的实例将被复用，内容仅在下一次调用 {@link #hasNext()} 或 {@link #next()} 方法之前有效。
+     *
+     * @return 文本内容。
+     */
+    @Override
+    public CharSequence next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        lineReady = false;
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * 读取一行文本至"line"中。
+     *
+     * @return "true"表示读取到了新的一行；"false"表示已到达输入流末尾。
+     * @throws IOException 读取失败。
+     */
+    private boolean readLine() throws IOException {
+        line.setLength(0);
+        boolean hasData = false;
+        while (true) {
+            if (position >= limit && !fill()) {
+                // 末尾的数据没有行结束符，也视为一行。
+                return hasData;
+            }
+
+            hasData = true;
+            int start = position;
+            while (position < limit) {
+                char c = buffer[position];
+                if (c == '\n' || c == '\r') {
+                    line.append(buffer, start, position - start);
+                    position++;
+                    if (keepTerminator) {
+                        line.append(c);
+                    }
+
+                    // "\r"之后紧跟"\n"时，两者共同组成一个行结束符。
+                    if (c == '\r' && (position < limit || fill()) && buffer[position] == '\n') {
+                        position++;
+                        if (keepTerminator) {
+                            line.append('\n');
+                        }
+                    }
+
+                    return true;
+                }
+                position++;
+            }
+
+            // 缓冲区中的数据不足一行，暂存后继续读取。
+            line.append(buffer, start, position - start);
+        }
+    }
+
+    /**
+     * 从输入流中读取数据并填充缓冲区。
+     *
+     * @return "true"表示读取到了新的数据；"false"表示已到达输入流末尾。
+     * @throws IOException 读取失败。
+     */
+    private boolean fill() throws IOException {
+        if (endOfStream) {
+            return false;
+        }
+
+        int count;
+        do {
+            count = reader.read(buffer, 0, buffer.length);
+        } while (count == 0);
+
+        if (count < 0) {
+            endOfStream = true;
+            position = 0;
+            limit = 0;
+            return false;
+        }
+
+        position = 0;
+        limit = count;
+        return true;
+    }
+}
@@ -0,0 +1,161 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 内存映射区域缓存。
+ * <p>
+ * 按文件缓存通过 {@link FileChannel#map} 建立的只读映射区域，重复读取同一区域时直接返回映射视图，不再分配堆内存。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+final class MappedBufferCache {
+
+    /**
+     * 映射区域的起始位置对齐粒度：64KB。
+     */
+    private static final long MAP_ALIGNMENT = 64 * 1024L;
+
+    /**
+     * 单次映射的最小长度：1MB。
+     * <p>
+     * 请求的区域较小时，将映射其周围的一段连续区域，后续读取相邻数据时即可命中缓存。
+     */
+    private static final long MAP_MIN_SIZE = 1024 * 1024L;
+
+    /**
+     * 每个文件最多缓存的映射区域数量，超出时淘汰最久未使用的区域。
+     */
+    private static final int MAX_REGIONS_PER_FILE = 64;
+
+    /**
+     * 缓存表。Key为文件的规范路径，Value为该文件的映射区域集合。
+     */
+    private static final Map<String, FileEntry> CACHE = new ConcurrentHashMap<>();
+
+    private MappedBufferCache() {
+    }
+
+    /**
+     * 获取文件指定区域的只读视图。
+     * <p>
+     * 调用者需要预先校验参数，确保区域位于文件范围之内。
+     *
+     * @param file   目标文件。
+     * @param offset 起始位置（从0开始计数）。
+     * @param length 读取字节数。
+     * @return 只读的ByteBuffer，Position为0，Limit为区域长度。
+     * @throws IOException 建立映射失败。
+     */
+    static ByteBuffer get(File file, long offset, int length) throws IOException {
+        String key = file.getCanonicalPath();
+        FileEntry entry = CACHE.computeIfAbsent(key, k -> new FileEntry());
+        synchronized (entry) {
+            // 文件长度或修改时间发生变化时，已有的映射内容可能已经过期，需要全部丢弃。
+            long fileLength = file.length();
+            long lastModified = file.lastModified();
+            if (entry.fileLength != fileLength || entry.lastModified != lastModified) {
+                entry.regions.clear();
+                entry.fileLength = fileLength;
+                entry.lastModified = lastModified;
+            }
+
+            // 查找已缓存的区域，命中后将其移动至队尾，标记为最近使用。
+            Iterator<Region> iterator = entry.regions.iterator();
+            while (iterator.hasNext()) {
+                Region region = iterator.next();
+                if (region.contains(offset, length)) {
+                    iterator.remove();
+                    entry.regions.addLast(region);
+                    return region.slice(offset, length);
+                }
+            }
+
+            // 未命中缓存，建立新的映射。
+            long start = offset - (offset % MAP_ALIGNMENT);
+            long end = Math.max(offset + length, start + MAP_MIN_SIZE);
+            end = Math.min(end, fileLength);
+            // 单个映射区域不能超过"Integer.MAX_VALUE"，超出时仅映射请求的区域。
+            if (end - start > Integer.MAX_VALUE) {
+                start = offset;
+                end = offset + length;
+            }
+
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            }
+
+            Region region = new Region(start, buffer);
+            if (entry.regions.size() >= MAX_REGIONS_PER_FILE) {
+                entry.regions.removeFirst();
+            }
+            entry.regions.addLast(region);
+            return region.slice(offset, length);
+        }
+    }
+
+    /**
+     * 释放指定文件的所有映射区域。
+     *
+     * @param file 目标文件。
+     * @throws IOException 获取规范路径失败。
+     */
+    static void release(File file) throws IOException {
+        CACHE.remove(file.getCanonicalPath());
+    }
+
+    /**
+     * 释放所有文件的映射区域。
+     */
+    static void releaseAll() {
+        CACHE.clear();
+    }
+
+    /**
+     * 单个文件的缓存条目。
+     */
+    private static final class FileEntry {
+
+        private final LinkedList<Region> regions = new LinkedList<>();
+        private long fileLength = -1L;
+        private long lastModified = -1L;
+    }
+
+    /**
+     * 已映射的区域。
+     */
+    private static final class Region {
+
+        private final long start;
+        private final MappedByteBuffer buffer;
+
+        private Region(long start, MappedByteBuffer buffer) {
+            this.start = start;
+            this.buffer = buffer;
+        }
+
+        private boolean contains(long offset, int length) {
+            return offset >= start && offset + length <= start + buffer.capacity();
+        }
+
+        private ByteBuffer slice(long offset, int length) {
+            // 使用副本操作位置标记，不影响其他调用者持有的视图。
+            ByteBuffer view = buffer.duplicate();
+            int position = (int) (offset - start);
+            view.position(position);
+            view.limit(position + length);
+            return view.slice();
+        }
+    }
+}
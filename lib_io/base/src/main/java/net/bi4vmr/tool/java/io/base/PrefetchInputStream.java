@@ -0,0 +1,285 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 预读输入流。
+ * <p>
+ * 后台线程将持续从源输入流读取数据并填充空闲的缓冲区，调用者处理当前缓冲区的同时，下一个缓冲区已在读取中。对于慢速存储或网络存储上的
+ * 顺序读取，总耗时将接近I/O与计算两者中较大的一个，而不是两者之和。
+ * <p>
+ * 缓冲区的数量即为预读深度："2"表示双缓冲，"3"表示三缓冲，以此类推。缓冲区从 {@link IOUtil#getBufferPool()} 获取，关闭时将被归还。
+ * <p>
+ * 本类不是线程安全的，同一时刻只能有一个线程读取数据。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public final class PrefetchInputStream extends InputStream {
+
+    /**
+     * 关闭时等待后台线程退出的最长时间（毫秒）。
+     */
+    private static final long CLOSE_TIMEOUT = 5000L;
+
+    /**
+     * 表示已到达末尾的数据块。
+     */
+    private static final Chunk END = new Chunk(null, -1, null);
+
+    /**
+     * 通知后台线程退出的缓冲区。
+     */
+    private static final byte[] STOP = new byte[0];
+
+    /**
+     * 预读任务的状态：尚未开始、运行中、已关闭。
+     */
+    private static final int STATE_NEW = 0;
+    private static final int STATE_RUNNING = 1;
+    private static final int STATE_CLOSED = 2;
+
+    private final InputStream source;
+    private final byte[][] buffers;
+    private final BlockingQueue<byte[]> freeBuffers;
+    private final BlockingQueue<Chunk> filledChunks;
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    private final AtomicInteger state = new AtomicInteger(STATE_NEW);
+
+    // 以下字段仅在读取线程中访问
+    private Chunk current;
+    private int position;
+
+    /**
+     * 构造方法。
+     * <p>
+     * 创建完毕后将立即开始预读。
+     *
+     * @param source     源输入流，关闭本实例时将被一同关闭。
+     * @param bufferSize 每个缓冲区的大小（字节）。
+     * @param depth      缓冲区的数量，最小为"2"。
+     * @param executor   执行预读任务的线程池，为空值时将创建独立的守护线程。预读任务将一直占用一个线程直至读取完毕或本实例被关闭。
+     */
+    public PrefetchInputStream(InputStream source, int bufferSize, int depth, Executor executor) {
+        if (source == null) {
+            throw new IllegalArgumentException("InputStream is null!");
+        }
+
+        if (bufferSize <= 0 || depth < 2) {
+            throw new IllegalArgumentException("Buffer size must > 0 and depth must >= 2!");
+        }
+
+        this.source = source;
+        this.buffers = new byte[depth][];
+        // 预留一个位置用于放入退出标记
+        this.freeBuffers = new ArrayBlockingQueue<>(depth + 1);
+        this.filledChunks = new ArrayBlockingQueue<>(depth + 1);
+        for (int i = 0; i < depth; i++) {
+            buffers[i] = IOUtil.getBufferPool().acquire(bufferSize);
+            freeBuffers.add(buffers[i]);
+        }
+
+        if (executor == null) {
+            Thread thread = new Thread(this::prefetch, "PrefetchInputStream");
+            thread.setDaemon(true);
+            thread.start();
+        } else {
+            executor.execute(this::prefetch);
+        }
+    }
+
+    /**
+     * 构造方法。
+     * <p>
+     * 默认使用独立的守护线程进行预读。
+     *
+     * @param source     源输入流，关闭本实例时将被一同关闭。
+     * @param bufferSize 每个缓冲区的大小（字节）。
+     * @param depth      缓冲区的数量，最小为"2"。
+     */
+    public PrefetchInputStream(InputStream source, int bufferSize, int depth) {
+        this(source, bufferSize, depth, null);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!prepare()) {
+            return -1;
+        }
+
+        return current.data[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (len == 0) {
+            return 0;
+        }
+
+        if (!prepare()) {
+            return -1;
+        }
+
+        int count = Math.min(len, current.length - position);
+        System.arraycopy(current.data, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        if (current == null || current == END) {
+            return 0;
+        }
+
+        return current.length - position;
+    }
+
+    /**
+     * 停止预读并关闭源输入流。
+     *
+     * @throws IOException 关闭源输入流失败。
+     */
+    @Override
+    public void close() throws IOException {
+        int previous = state.getAndSet(STATE_CLOSED);
+        if (previous == STATE_CLOSED) {
+            return;
+        }
+
+        // 后台线程可能正在等待空闲的缓冲区，放入退出标记将其唤醒。
+        if (previous == STATE_RUNNING) {
+            freeBuffers.offer(STOP);
+        }
+
+        try {
+            source.close();
+        } finally {
+            // 后台线程退出后才能归还缓冲区，超时则交由垃圾回收处理。预读任务尚未开始时，它将不再访问缓冲区，无需等待。
+            boolean exited = previous == STATE_NEW;
+            try {
+                exited = exited || finished.await(CLOSE_TIMEOUT, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            if (exited) {
+                for (byte[] buffer : buffers) {
+                    IOUtil.getBufferPool().release(buffer);
+                }
+            }
+            filledChunks.clear();
+            freeBuffers.clear();
+            current = null;
+        }
+    }
+
+    /**
+     * 定位至下一个可读取的位置，当前数据块读取完毕时等待下一个数据块。
+     *
+     * @return "true"表示仍有数据；"false"表示已到达末尾。
+     * @throws IOException 输入流已关闭，或者后台读取失败。
+     */
+    private boolean prepare() throws IOException {
+        ensureOpen();
+        while (current == null || (current != END && position >= current.length)) {
+            if (current != null) {
+                // 当前缓冲区已读取完毕，交还给后台线程继续填充。
+                freeBuffers.add(current.data);
+            }
+
+            try {
+                current = filledChunks.take();
+            } catch (InterruptedException e) {
+                current = null;
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Prefetch interrupted!");
+            }
+            position = 0;
+
+            if (current.error != null) {
+                IOException error = current.error;
+                current = END;
+                throw error;
+            }
+        }
+
+        return current != END;
+    }
+
+    /**
+     * 后台预读任务。
+     */
+    private void prefetch() {
+        // 已被关闭时不再开始
+        if (!state.compareAndSet(STATE_NEW, STATE_RUNNING)) {
+            return;
+        }
+
+        try {
+            while (state.get() == STATE_RUNNING) {
+                byte[] buffer = freeBuffers.take();
+                if (buffer == STOP || state.get() != STATE_RUNNING) {
+                    break;
+                }
+
+                int count;
+                do {
+                    count = source.read(buffer, 0, buffer.length);
+                } while (count == 0);
+
+                if (count == -1) {
+                    filledChunks.put(END);
+                    break;
+                }
+
+                filledChunks.put(new Chunk(buffer, count, null));
+            }
+        } catch (InterruptedException e) {
+            // 线程池被强制关闭
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            if (state.get() == STATE_RUNNING) {
+                filledChunks.offer(new Chunk(null, 0, e));
+            }
+        } finally {
+            finished.countDown();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (state.get() == STATE_CLOSED) {
+            throw new IOException("Stream closed!");
+        }
+    }
+
+    /**
+     * 已填充的数据块。
+     */
+    private static final class Chunk {
+
+        private final byte[] data;
+        private final int length;
+        private final IOException error;
+
+        Chunk(byte[] data, int length, IOException error) {
+            this.data = data;
+            this.length = length;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package net.bi4vmr.tool.java.io.base;
+
+/**
+ * 文件保存方式。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public enum SaveMode {
+
+    /**
+     * 直接写入目标文件。
+     * <p>
+     * 速度最快，但写入过程中程序崩溃将导致目标文件内容不完整。
+     */
+    DIRECT,
+
+    /**
+     * 先写入同一目录中的临时文件，再通过原子移动替换目标文件。
+     * <p>
+     * 其他进程只能看到旧文件或完整的新文件，但数据可能仍位于操作系统缓存中，系统崩溃或断电时可能丢失。
+     */
+    ATOMIC,
+
+    /**
+     * 在 {@link #ATOMIC} 的基础上，移动前将临时文件的数据同步至磁盘，移动后同步所在目录。
+     * <p>
+     * 方法返回后数据即已持久化，代价是每次保存都需要等待磁盘同步。大量小文件并发保存时，可以使用 {@link GroupCommitter} 分摊同步开销。
+     */
+    DURABLE
+}
@@ -0,0 +1,457 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 分段输出流。
+ * <p>
+ * 用于替代 {@link java.io.ByteArrayOutputStream} ，数据被保存在多个固定大小的数组（段）中，容量不足时只需追加新的段，无需复制已有数据。
+ * 段数组从 {@link IOUtil#getBufferPool()} 获取，关闭时将被归还。
+ * <p>
+ * 内存中的数据量达到阈值后，已有数据将被转存至临时文件，后续数据只在内存中保留一个段作为写入缓冲，从而限制内存占用。
+ * <p>
+ * 数据可以通过 {@link #toInputStream()} 方法读取，或者通过 {@link #writeTo(WritableByteChannel)} 方法写入通道，两者均不会复制全部
+ * 数据。关闭后所有数据将被丢弃，临时文件也将被删除。
+ * <p>
+ * 本类不是线程安全的。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public final class SegmentedOutputStream extends OutputStream {
+
+    private final int segmentSize;
+    private final long spillThreshold;
+
+    /**
+     * 内存中的段。转存至临时文件后，只保留一个段作为写入缓冲。
+     */
+    private final List<byte[]> segments = new ArrayList<>();
+
+    /**
+     * 最后一个段中已使用的字节数。
+     */
+    private int tail = 0;
+
+    private long size = 0L;
+    private File spillFile;
+    private FileChannel spillChannel;
+    private boolean closed = false;
+
+    /**
+     * 构造方法。
+     *
+     * @param segmentSize    每个段的大小（字节）。
+     * @param spillThreshold 转存至临时文件的阈值（字节），"Long.MAX_VALUE"表示始终保存在内存中。
+     */
+    public SegmentedOutputStream(int segmentSize, long spillThreshold) {
+        if (segmentSize <= 0 || spillThreshold < 0L) {
+            throw new IllegalArgumentException("Segment size or spill threshold invalid!");
+        }
+
+        this.segmentSize = segmentSize;
+        this.spillThreshold = spillThreshold;
+    }
+
+    /**
+     * 构造方法。
+     * <p>
+     * 默认使用"128KB"的段，数据量达到"32MB"后转存至临时文件。
+     */
+    public SegmentedOutputStream() {
+        this(IOUtil.BUFFER_SIZE_128KB, IOUtil.BUFFER_SIZE_32MB);
+    }
+
+    /**
+     * 获取已写入的数据总量。
+     *
+     * @return 数据总量（字节）。
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * 判断数据是否已被转存至临时文件。
+     *
+     * @return "true"表示已转存；"false"表示数据全部位于内存中。
+     */
+    public boolean isSpilled() {
+        return spillChannel != null;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        byte[] current = currentSegment();
+        current[tail++] = (byte) b;
+        size++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        while (len > 0) {
+            byte[] current = currentSegment();
+            int count = Math.min(len, current.length - tail);
+            System.arraycopy(b, off, current, tail, count);
+            tail += count;
+            size += count;
+            off += count;
+            len -= count;
+        }
+    }
+
+    /**
+     * 从输入流读取数据并写入本实例。
+     * <p>
+     * 数据将被直接读取至段数组中，无需中间缓冲区。该方法不会关闭输入流。
+     *
+     * @param stream    输入流。
+     * @param maxLength 最多读取的字节数。
+     * @return 实际读取的字节数。
+     * @throws IOException 读取或转存失败。
+     */
+    public long readFrom(InputStream stream, long maxLength) throws IOException {
+        ensureOpen();
+        long total = 0L;
+        while (total < maxLength) {
+            byte[] current = currentSegment();
+            int count = stream.read(current, tail, (int) Math.min(current.length - tail, maxLength - total));
+            if (count == -1) {
+                break;
+            }
+
+            tail += count;
+            size += count;
+            total += count;
+        }
+
+        return total;
+    }
+
+    /**
+     * 将所有数据写入通道。
+     * <p>
+     * 数据位于内存中时，所有段将通过聚集写入的方式直接写入通道；已转存时，临时文件将通过 {@link FileChannel#transferTo} 方法写入通道。
+     *
+     * @param target 目标通道。
+     * @return 写入的字节数。
+     * @throws IOException 写入失败。
+     */
+    public long writeTo(WritableByteChannel target) throws IOException {
+        ensureOpen();
+        if (spillChannel != null) {
+            flushStaging();
+            long total = spillChannel.size();
+            long position = 0L;
+            while (position < total) {
+                position += spillChannel.transferTo(position, total - position, target);
+            }
+            return total;
+        }
+
+        ByteBuffer[] views = segmentViews();
+        if (target instanceof GatheringByteChannel) {
+            GatheringByteChannel channel = (GatheringByteChannel) target;
+            long written = 0L;
+            while (written < size) {
+                written += channel.write(views);
+            }
+        } else {
+            for (ByteBuffer view : views) {
+                while (view.hasRemaining()) {
+                    target.write(view);
+                }
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * 将所有数据写入输出流。
+     *
+     * @param output 目标输出流。
+     * @throws IOException 写入失败。
+     */
+    public void writeTo(OutputStream output) throws IOException {
+        ensureOpen();
+        if (spillChannel != null) {
+            writeTo(Channels.newChannel(output));
+            return;
+        }
+
+        for (int i = 0; i < segments.size(); i++) {
+            output.write(segments.get(i), 0, lengthOf(i));
+        }
+    }
+
+    /**
+     * 获取读取数据的输入流。
+     * <p>
+     * 数据位于内存中时，输入流直接读取段数组；已转存时，输入流读取临时文件。输入流的内容为调用本方法时已写入的数据，并且只在本实例关闭前
+     * 有效，使用完毕后需要由调用者关闭。
+     *
+     * @return 输入流。
+     * @throws IOException 打开临时文件失败。
+     */
+    public InputStream toInputStream() throws IOException {
+        ensureOpen();
+        if (spillChannel != null) {
+            flushStaging();
+            return Channels.newInputStream(FileChannel.open(spillFile.toPath(), StandardOpenOption.READ));
+        }
+
+        return new SegmentInputStream(segments.toArray(new byte[0][]), tail, size);
+    }
+
+    /**
+     * 将所有数据复制为字节数组。
+     *
+     * @return 字节数组。
+     * @throws IOException 读取临时文件失败。
+     */
+    public byte[] toByteArray() throws IOException {
+        ensureOpen();
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IOException("Data too large for byte array!");
+        }
+
+        byte[] result = new byte[(int) size];
+        if (spillChannel != null) {
+            flushStaging();
+            ByteBuffer view = ByteBuffer.wrap(result);
+            while (view.hasRemaining()) {
+                if (spillChannel.read(view, view.position()) == -1) {
+                    throw new IOException("Spill file truncated!");
+                }
+            }
+            return result;
+        }
+
+        int position = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            int length = lengthOf(i);
+            System.arraycopy(segments.get(i), 0, result, position, length);
+            position += length;
+        }
+        return result;
+    }
+
+    /**
+     * 丢弃所有数据，归还段数组并删除临时文件。
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        for (byte[] segment : segments) {
+            IOUtil.getBufferPool().release(segment);
+        }
+        segments.clear();
+
+        IOUtil.closeSilently(spillChannel);
+        spillChannel = null;
+        if (spillFile != null && !spillFile.delete()) {
+            spillFile.deleteOnExit();
+        }
+    }
+
+    /**
+     * 获取可写入的段，当前段已满时追加新的段，或者将写入缓冲转存至临时文件。
+     *
+     * @return 可写入的段，"tail"位置之后至少有一个字节的空间。
+     * @throws IOException 转存失败。
+     */
+    private byte[] currentSegment() throws IOException {
+        if (!segments.isEmpty()) {
+            byte[] last = segments.get(segments.size() - 1);
+            if (tail < last.length) {
+                return last;
+            }
+        }
+
+        if (spillChannel == null && size >= spillThreshold && size > 0L) {
+            spill();
+        }
+
+        if (spillChannel != null) {
+            flushStaging();
+            return segments.get(0);
+        }
+
+        byte[] segment = IOUtil.getBufferPool().acquire(segmentSize);
+        segments.add(segment);
+        tail = 0;
+        return segment;
+    }
+
+    /**
+     * 将内存中的所有数据转存至临时文件，只保留一个段作为写入缓冲。
+     *
+     * @throws IOException 创建或写入临时文件失败。
+     */
+    private void spill() throws IOException {
+        // 临时文件在关闭时删除，删除失败时才登记为退出时删除，避免长期运行的进程中登记的路径不断累积。
+        spillFile = File.createTempFile("segmented-", ".spill");
+        spillChannel = FileChannel.open(spillFile.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        ByteBuffer[] views = segmentViews();
+        long written = 0L;
+        while (written < size) {
+            written += spillChannel.write(views);
+        }
+
+        for (int i = 1; i < segments.size(); i++) {
+            IOUtil.getBufferPool().release(segments.get(i));
+        }
+        byte[] staging = segments.get(0);
+        segments.clear();
+        segments.add(staging);
+        tail = 0;
+    }
+
+    /**
+     * 将写入缓冲中的数据追加至临时文件。
+     *
+     * @throws IOException 写入临时文件失败。
+     */
+    private void flushStaging() throws IOException {
+        ByteBuffer view = ByteBuffer.wrap(segments.get(0), 0, tail);
+        while (view.hasRemaining()) {
+            spillChannel.write(view);
+        }
+        tail = 0;
+    }
+
+    /**
+     * 获取所有段中有效数据的视图。
+     *
+     * @return 视图数组。
+     */
+    private ByteBuffer[] segmentViews() {
+        ByteBuffer[] views = new ByteBuffer[segments.size()];
+        for (int i = 0; i < views.length; i++) {
+            views[i] = ByteBuffer.wrap(segments.get(i), 0, lengthOf(i));
+        }
+        return views;
+    }
+
+    /**
+     * 获取段中有效数据的长度。
+     *
+     * @param index 段的索引。
+     * @return 有效数据的长度（字节）。
+     */
+    private int lengthOf(int index) {
+        return index == segments.size() - 1 ? tail : segments.get(index).length;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed!");
+        }
+    }
+
+    /**
+     * 直接读取段数组的输入流。
+     */
+    private static final class SegmentInputStream extends InputStream {
+
+        private final byte[][] segments;
+        private final int lastLength;
+        private long remaining;
+        private int index = 0;
+        private int position = 0;
+
+        SegmentInputStream(byte[][] segments, int lastLength, long size) {
+            this.segments = segments;
+            this.lastLength = lastLength;
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (!prepare()) {
+                return -1;
+            }
+
+            remaining--;
+            return segments[index][position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+
+            if (!prepare()) {
+                return -1;
+            }
+
+            int count = Math.min(len, limitOf(index) - position);
+            System.arraycopy(segments[index], position, b, off, count);
+            position += count;
+            remaining -= count;
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = 0L;
+            while (skipped < n && prepare()) {
+                int count = (int) Math.min(n - skipped, limitOf(index) - position);
+                position += count;
+                remaining -= count;
+                skipped += count;
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(remaining, Integer.MAX_VALUE);
+        }
+
+        /**
+         * 定位至下一个可读取的位置。
+         *
+         * @return "true"表示仍有数据；"false"表示已到达末尾。
+         */
+        private boolean prepare() {
+            if (remaining <= 0L) {
+                return false;
+            }
+
+            while (position >= limitOf(index)) {
+                index++;
+                position = 0;
+            }
+            return true;
+        }
+
+        private int limitOf(int i) {
+            return i == segments.length - 1 ? lastLength : segments[i].length;
+        }
+    }
+}
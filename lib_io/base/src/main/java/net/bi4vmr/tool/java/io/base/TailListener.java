@@ -0,0 +1,55 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 文件追踪监听器。
+ * <p>
+ * 所有回调方法均在 {@link FileTailer} 的工作线程中被调用，处理耗时较长时将会延迟后续数据的读取。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public interface TailListener {
+
+    /**
+     * 读取到新的数据。
+     * <p>
+     * 参数中的Buffer将被复用，它的内容仅在本方法执行期间有效。
+     *
+     * @param data 新的数据，位于"position"至"limit"之间。
+     */
+    void onData(ByteBuffer data);
+
+    /**
+     * 读取到新的文本行。
+     * <p>
+     * 仅在创建 {@link FileTailer} 时指定了字符集才会被调用，行结束符已被移除。
+     *
+     * @param line 文本行。
+     */
+    default void onLine(String line) {
+    }
+
+    /**
+     * 文件被轮转（原路径指向了新的文件），后续将从新文件的起始位置开始读取。
+     */
+    default void onRotated() {
+    }
+
+    /**
+     * 文件被截断，后续将从文件的起始位置开始读取。
+     */
+    default void onTruncated() {
+    }
+
+    /**
+     * 读取文件时遇到错误。
+     * <p>
+     * 追踪不会因此停止，下一次轮询时将重新尝试。
+     *
+     * @param e 异常信息。
+     */
+    default void onError(Exception e) {
+    }
+}
@@ -0,0 +1,135 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 文本解码工具。
+ * <p>
+ * 针对"UTF-8"、"US-ASCII"与"ISO-8859-1"编码进行了优化：ASCII字符（0x00至0x7F）直接扩展为"char"，只有多字节序列才交由
+ * {@link CharsetDecoder} 处理。上述编码中每个字节最多对应一个字符，因此结果可以直接写入按字节数分配的数组中，无需扩容。
+ * <p>
+ * 其他字符集将使用JDK的默认实现解码。与 {@link java.io.InputStreamReader} 相同，无法解码的字节将被替换为"U+FFFD"。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public final class TextDecoder {
+
+    private TextDecoder() {
+    }
+
+    /**
+     * 判断字符集是否支持快速解码。
+     *
+     * @param charset 字符集。
+     * @return "true"表示支持；"false"表示不支持。
+     */
+    public static boolean isSupported(Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset)
+                || StandardCharsets.US_ASCII.equals(charset)
+                || StandardCharsets.ISO_8859_1.equals(charset);
+    }
+
+    /**
+     * 将数组解码为文本。
+     *
+     * @param datas   待解码的数组。
+     * @param offset  起始位置。
+     * @param length  解码的字节数。
+     * @param charset 字符集。
+     * @return 文本内容。
+     */
+    public static String decode(byte[] datas, int offset, int length, Charset charset) {
+        if (length == 0) {
+            return "";
+        }
+
+        if (!isSupported(charset)) {
+            return new String(datas, offset, length, charset);
+        }
+
+        char[] chars = new char[length];
+        int count = decode(datas, offset, length, charset, chars);
+        return new String(chars, 0, count);
+    }
+
+    /**
+     * 将数组解码为文本。
+     *
+     * @param datas   待解码的数组。
+     * @param charset 字符集。
+     * @return 文本内容。
+     */
+    public static String decode(byte[] datas, Charset charset) {
+        return decode(datas, 0, datas.length, charset);
+    }
+
+    /**
+     * 将数组解码为字符，并写入目标数组中。
+     *
+     * @param datas   待解码的数组。
+     * @param offset  起始位置。
+     * @param length  解码的字节数。
+     * @param charset 字符集，必须是 {@link #isSupported(Charset)} 支持的字符集。
+     * @param target  目标数组，容量至少为"length"。
+     * @return 写入的字符数。
+     */
+    private static int decode(byte[] datas, int offset, int length, Charset charset, char[] target) {
+        int end = offset + length;
+        int position = 0;
+
+        // "ISO-8859-1"中每个字节都对应一个字符，全部直接扩展即可。
+        if (StandardCharsets.ISO_8859_1.equals(charset)) {
+            for (int i = offset; i < end; i++) {
+                target[position++] = (char) (datas[i] & 0xFF);
+            }
+            return length;
+        }
+
+        CharsetDecoder decoder = null;
+        int i = offset;
+        while (i < end) {
+            // 扩展连续的ASCII字符
+            while (i < end && datas[i] >= 0) {
+                target[position++] = (char) datas[i++];
+            }
+            if (i == end) {
+                break;
+            }
+
+            // 查找连续的非ASCII字节。"UTF-8"多字节序列中的每个字节都不小于0x80，因此不会在序列中间断开。
+            int start = i;
+            while (i < end && datas[i] < 0) {
+                i++;
+            }
+
+            if (decoder == null) {
+                decoder = charset.newDecoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            } else {
+                decoder.reset();
+            }
+
+            ByteBuffer in = ByteBuffer.wrap(datas, start, i - start);
+            CharBuffer out = CharBuffer.wrap(target, position, target.length - position);
+            CoderResult result = decoder.decode(in, out, true);
+            if (!result.isOverflow()) {
+                result = decoder.flush(out);
+            }
+            if (result.isOverflow()) {
+                // 每个字节最多对应一个字符，按字节数分配的数组不会溢出。
+                throw new IllegalStateException("Decode buffer overflow!");
+            }
+            position = out.position();
+        }
+
+        return position;
+    }
+}
@@ -0,0 +1,82 @@
+package net.bi4vmr.tool.java.io.base;
+
+import java.util.Locale;
+
+/**
+ * 数据转存结果。
+ * <p>
+ * 记录单次转存操作的字节数与耗时，便于比较不同转存方式的吞吐量。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public final class TransferResult {
+
+    private final boolean success;
+    private final boolean zeroCopy;
+    private final long bytes;
+    private final long elapsedNanos;
+
+    TransferResult(boolean success, boolean zeroCopy, long bytes, long elapsedNanos) {
+        this.success = success;
+        this.zeroCopy = zeroCopy;
+        this.bytes = bytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * 操作是否成功。
+     *
+     * @return "true"表示数据已全部转存；"false"表示中途遇到错误。
+     */
+    public boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * 是否使用了零拷贝方式。
+     *
+     * @return "true"表示通过 {@link java.nio.channels.FileChannel#transferTo} 转存，数据不经过用户态缓冲区；"false"表示通过
+     * 缓冲区逐块复制。
+     */
+    public boolean isZeroCopy() {
+        return zeroCopy;
+    }
+
+    /**
+     * 获取已转存的字节数。
+     *
+     * @return 字节数。操作失败时为失败前已写入的字节数。
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * 获取耗时。
+     *
+     * @return 耗时（纳秒）。
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * 获取吞吐量。
+     *
+     * @return 吞吐量（字节/秒）。耗时为0时返回0。
+     */
+    public double getThroughput() {
+        if (elapsedNanos <= 0L) {
+            return 0.0;
+        }
+
+        return bytes * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "TransferResult{success=%s, zeroCopy=%s, bytes=%d, elapsed=%.3fms, throughput=%.2fMB/s}",
+                success, zeroCopy, bytes, elapsedNanos / 1_000_000.0, getThroughput() / (1024 * 1024));
+    }
+}
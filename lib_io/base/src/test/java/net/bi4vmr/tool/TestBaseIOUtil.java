@@ -0,0 +1,270 @@
+package net.bi4vmr.tool;
+
+import net.bi4vmr.tool.java.io.base.BaseIOUtil;
+import net.bi4vmr.tool.java.io.base.IOMetrics;
+import net.bi4vmr.tool.java.io.base.LatencyHistogram;
+import net.bi4vmr.tool.java.io.base.LineReader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 测试类：基本输入与输出工具。
+ *
+ * @author bi4vmr@outlook.com
+ */
+public class TestBaseIOUtil {
+
+    @Test
+    void test_ReadAsLines() throws Exception {
+        InputStream stream = new ByteArrayInputStream("A\r\nBB\rCCC\n\nD".getBytes(StandardCharsets.UTF_8));
+
+        // 使用较小的缓冲区，覆盖"\r\n"被缓冲区边界分隔的情况。
+        List<String> lines = new ArrayList<>();
+        try (LineReader reader = BaseIOUtil.readAsLines(stream, 2, StandardCharsets.UTF_8, true)) {
+            while (reader.hasNext()) {
+                lines.add(reader.next().toString());
+            }
+        }
+
+        Assertions.assertEquals(Arrays.asList("A\r\n", "BB\r", "CCC\n", "\n", "D"), lines);
+    }
+
+    @Test
+    void test_ReadAsLineStream() {
+        InputStream stream = new ByteArrayInputStream("第一行\n第二行\r\n".getBytes(StandardCharsets.UTF_8));
+
+        try (Stream<String> lines = BaseIOUtil.readAsLineStream(stream)) {
+            Assertions.assertEquals(Arrays.asList("第一行", "第二行"), lines.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void test_ReadAsBytes() {
+        byte[] data = new byte[100 * 1024 + 7];
+        new Random(1L).nextBytes(data);
+
+        // 输入流能够报告剩余长度时，一次分配即可完成读取。
+        Assertions.assertArrayEquals(data, BaseIOUtil.readAllAsBytes(new ByteArrayInputStream(data)));
+
+        // 输入流无法报告剩余长度时，按倍数扩容。
+        Assertions.assertArrayEquals(data, BaseIOUtil.readAllAsBytes(new UnknownSizeInputStream(data)));
+
+        // 指定偏移量与长度
+        byte[] part = BaseIOUtil.readAsBytes(new UnknownSizeInputStream(data), 10L, 20000, 1024, 16);
+        Assertions.assertArrayEquals(Arrays.copyOfRange(data, 10, 20010), part);
+    }
+
+    @Test
+    void test_ReadAsBytesToBuffer() {
+        byte[] data = new byte[20000];
+        new Random(3L).nextBytes(data);
+
+        ByteBuffer heap = ByteBuffer.allocate(100);
+        Assertions.assertEquals(100, BaseIOUtil.readAsBytes(new UnknownSizeInputStream(data), 10L, heap));
+        Assertions.assertArrayEquals(Arrays.copyOfRange(data, 10, 110), heap.array());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length * 2);
+        Assertions.assertEquals(data.length, BaseIOUtil.readAsBytes(new ByteArrayInputStream(data), direct));
+        direct.flip();
+        byte[] actual = new byte[direct.remaining()];
+        direct.get(actual);
+        Assertions.assertArrayEquals(data, actual);
+    }
+
+    @Test
+    void test_DecodeAllAsText() {
+        // 包含ASCII字符、双字节、三字节与四字节序列，以及非法字节。
+        String text = "Hello\r\nÀé 中文 😀 end\n";
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        Assertions.assertEquals(text, BaseIOUtil.decodeAllAsText(new UnknownSizeInputStream(utf8)));
+
+        byte[] malformed = {'A', (byte) 0xE4, (byte) 0xB8, 'B', (byte) 0xFF};
+        Assertions.assertEquals(new String(malformed, StandardCharsets.UTF_8),
+                BaseIOUtil.decodeAllAsText(new ByteArrayInputStream(malformed)));
+        Assertions.assertEquals(new String(malformed, StandardCharsets.US_ASCII),
+                BaseIOUtil.decodeAllAsText(new ByteArrayInputStream(malformed), StandardCharsets.US_ASCII));
+        Assertions.assertEquals(new String(malformed, StandardCharsets.ISO_8859_1),
+                BaseIOUtil.decodeAllAsText(new ByteArrayInputStream(malformed), StandardCharsets.ISO_8859_1));
+
+        // 不支持快速解码的字符集
+        byte[] utf16 = text.getBytes(StandardCharsets.UTF_16LE);
+        Assertions.assertEquals(text, BaseIOUtil.decodeAllAsText(new ByteArrayInputStream(utf16),
+                StandardCharsets.UTF_16LE));
+    }
+
+    @Test
+    void test_Prefetch() throws IOException {
+        byte[] data = new byte[1024 * 1024 + 5];
+        new Random(7L).nextBytes(data);
+
+        // 使用较小的缓冲区，覆盖多次交换缓冲区的情况。
+        InputStream stream = BaseIOUtil.prefetch(new UnknownSizeInputStream(data), 4096, 3, null);
+        Assertions.assertEquals(data[0] & 0xFF, stream.read());
+        byte[] rest = BaseIOUtil.readAllAsBytes(stream);
+        Assertions.assertArrayEquals(Arrays.copyOfRange(data, 1, data.length), rest);
+
+        // 后台读取失败时，异常将在读取线程中抛出。
+        InputStream failing = new FilterInputStream(new ByteArrayInputStream(data)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Disk error");
+            }
+        };
+        try (InputStream prefetch = BaseIOUtil.prefetch(failing)) {
+            IOException e = Assertions.assertThrows(IOException.class, prefetch::read);
+            Assertions.assertEquals("Disk error", e.getMessage());
+        }
+
+        // 缓冲区全部填满时关闭，后台任务随即退出。
+        AtomicInteger reads = new AtomicInteger();
+        InputStream counting = new FilterInputStream(new ByteArrayInputStream(data)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                reads.incrementAndGet();
+                return super.read(b, off, len);
+            }
+        };
+        List<Runnable> tasks = new ArrayList<>();
+        InputStream full = BaseIOUtil.prefetch(counting, 4096, 2, tasks::add);
+        new Thread(tasks.get(0)).start();
+        Assertions.assertEquals(data[0] & 0xFF, full.read());
+        long start = System.nanoTime();
+        full.close();
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1L));
+
+        // 任务开始前关闭，任务开始后不再读取数据。
+        reads.set(0);
+        tasks.clear();
+        BaseIOUtil.prefetch(counting, 4096, 2, tasks::add).close();
+        tasks.get(0).run();
+        Assertions.assertEquals(0, reads.get());
+    }
+
+    @Test
+    void test_IOMetrics() throws Exception {
+        byte[] data = new byte[10000];
+        IOMetrics metrics = IOMetrics.install();
+        try {
+            BaseIOUtil.readAsBytes(new ByteArrayInputStream(data), 0L, 4000, 8192);
+            BaseIOUtil.readAsBytes(new ByteArrayInputStream(data), 0L, 20000, 8192);
+            BaseIOUtil.readAsBytes(new FilterInputStream(new ByteArrayInputStream(data)) {
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    throw new IOException("Disk error");
+                }
+            }, 0L, 100, 8192);
+        } finally {
+            IOMetrics.uninstall();
+        }
+
+        // 卸载后不再统计
+        BaseIOUtil.readAsBytes(new ByteArrayInputStream(data), 0L, 100, 8192);
+
+        Assertions.assertEquals(3L, (long) metrics.getCalls().get("BaseIOUtil.readAsBytes"));
+        Assertions.assertEquals(1L, metrics.getTotalFailures());
+        Assertions.assertEquals(14000L, metrics.getTotalBytesRead());
+        Assertions.assertEquals(2L, (long) metrics.getBufferSizeUsage().get("BaseIOUtil.readAsBytes@8192"));
+        Assertions.assertEquals(1L, (long) metrics.getFailureCauses().get("BaseIOUtil.readAsBytes:java.io.IOException"));
+        Assertions.assertEquals(3L, metrics.getLatencyHistogram("BaseIOUtil.readAsBytes").getCount());
+
+        // 直方图的百分位数误差在3%以内
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100000L; i++) {
+            histogram.record(i * 1000L);
+        }
+        Assertions.assertEquals(100000000L, histogram.getMax());
+        Assertions.assertTrue(Math.abs(histogram.getValueAtPercentile(50.0) - 50000000L) <= 50000000L * 3 / 100);
+        Assertions.assertTrue(Math.abs(histogram.getValueAtPercentile(99.0) - 99000000L) <= 99000000L * 3 / 100);
+    }
+
+    /**
+     * 调用者持有当前数据块期间，后台线程已开始读取后续的数据块，直至空闲的缓冲区被填满。
+     */
+    @Test
+    void test_PrefetchOverlap() throws Exception {
+        int chunkSize = 64 * 1024;
+        byte[] data = new byte[8 * chunkSize];
+        new Random(14L).nextBytes(data);
+        CountDownLatch[] started = new CountDownLatch[8];
+        for (int i = 0; i < started.length; i++) {
+            started[i] = new CountDownLatch(1);
+        }
+
+        byte[] buffer = new byte[chunkSize];
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (InputStream stream = BaseIOUtil.prefetch(new ChunkedInputStream(data, chunkSize, started), chunkSize, 3,
+                null)) {
+            // 读取第一块后暂不继续，该缓冲区仍由调用者持有。
+            int count = stream.read(buffer);
+            Assertions.assertEquals(chunkSize, count);
+            result.write(buffer, 0, count);
+
+            // 其余两个缓冲区被依次填充，没有空闲缓冲区时不再读取。
+            Assertions.assertTrue(started[1].await(5L, TimeUnit.SECONDS));
+            Assertions.assertTrue(started[2].await(5L, TimeUnit.SECONDS));
+            Assertions.assertFalse(started[3].await(50L, TimeUnit.MILLISECONDS));
+
+            while ((count = stream.read(buffer)) != -1) {
+                result.write(buffer, 0, count);
+            }
+        }
+        Assertions.assertArrayEquals(data, result.toByteArray());
+    }
+
+    /**
+     * 每次读取最多返回一个数据块的输入流，开始读取每个数据块时通知对应的计数器。
+     */
+    private static class ChunkedInputStream extends FilterInputStream {
+
+        private final int chunkSize;
+        private final CountDownLatch[] started;
+        private int reads = 0;
+
+        ChunkedInputStream(byte[] data, int chunkSize, CountDownLatch[] started) {
+            super(new ByteArrayInputStream(data));
+            this.chunkSize = chunkSize;
+            this.started = started;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (reads < started.length) {
+                started[reads].countDown();
+            }
+            reads++;
+            return super.read(b, off, Math.min(len, chunkSize));
+        }
+    }
+
+    /**
+     * 无法报告剩余长度的输入流，模拟网络连接等场景。
+     */
+    private static class UnknownSizeInputStream extends FilterInputStream {
+
+        UnknownSizeInputStream(byte[] data) {
+            super(new ByteArrayInputStream(data));
+        }
+
+        @Override
+        public int available() {
+            return 0;
+        }
+    }
+}
@@ -1,9 +1,61 @@
 package net.bi4vmr.tool;
 
+import net.bi4vmr.tool.java.io.base.AsyncFileIOUtil;
+import net.bi4vmr.tool.java.io.base.BaseIOUtil;
+import net.bi4vmr.tool.java.io.base.Compression;
+import net.bi4vmr.tool.java.io.base.DirectoryWalker;
 import net.bi4vmr.tool.java.io.base.FileIOUtil;
+import net.bi4vmr.tool.java.io.base.FileRange;
+import net.bi4vmr.tool.java.io.base.FileTailer;
+import net.bi4vmr.tool.java.io.base.GroupCommitter;
+import net.bi4vmr.tool.java.io.base.HexCodec;
+import net.bi4vmr.tool.java.io.base.IOMetrics;
+import net.bi4vmr.tool.java.io.base.SaveMode;
+import net.bi4vmr.tool.java.io.base.SegmentedOutputStream;
+import net.bi4vmr.tool.java.io.base.TailListener;
+import net.bi4vmr.tool.java.io.base.TransferResult;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 /**
  * 测试类：文件输入与输出工具。
@@ -33,4 +85,652 @@ public class TestFileIOUtil {
         // String datas = FileIOUtil.readAsHexText(file, 6, 0);
         // System.out.println("Hex:[" + datas + "]");
     }
+
+    @Test
+    void test_ReadAsMappedBuffer() throws Exception {
+        File file = Files.createTempFile("TestFileIOUtil", ".bin").toFile();
+        file.deleteOnExit();
+        byte[] data = new byte[256 * 1024];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        Files.write(file.toPath(), data);
+
+        IOMetrics metrics = IOMetrics.install();
+        ByteBuffer buffer;
+        try {
+            buffer = FileIOUtil.readAsMappedBuffer(file, 100000L, 16);
+        } finally {
+            IOMetrics.uninstall();
+        }
+        Assertions.assertEquals(1L, (long) metrics.getCalls().get("FileIOUtil.readAsMappedBuffer"));
+        Assertions.assertEquals(16L, metrics.getTotalBytesRead());
+        Assertions.assertEquals(16, buffer.remaining());
+        Assertions.assertTrue(buffer.isReadOnly());
+        for (int i = 0; i < 16; i++) {
+            Assertions.assertEquals(data[100000 + i], buffer.get());
+        }
+
+        // 超出文件末尾的长度将被截断
+        ByteBuffer tail = FileIOUtil.readAsMappedBuffer(file, data.length - 4L, 100);
+        Assertions.assertEquals(4, tail.remaining());
+
+        FileIOUtil.releaseMappedBuffer(file);
+    }
+
+    @Test
+    void test_ReadAsBytesToBuffer() throws Exception {
+        File file = Files.createTempFile("TestFileIOUtil", ".bin").toFile();
+        file.deleteOnExit();
+        byte[] data = new byte[100 * 1024];
+        new Random(5L).nextBytes(data);
+        Files.write(file.toPath(), data);
+
+        // 直接内存Buffer，读取至文件末尾。
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        Assertions.assertEquals(data.length - 100, FileIOUtil.readAsBytes(file, 100L, direct));
+        direct.flip();
+        byte[] actual = new byte[direct.remaining()];
+        direct.get(actual);
+        Assertions.assertArrayEquals(Arrays.copyOfRange(data, 100, data.length), actual);
+
+        // 堆内存Buffer，从非零位置开始写入。
+        ByteBuffer heap = ByteBuffer.allocate(64);
+        heap.position(32);
+        Assertions.assertEquals(32, FileIOUtil.readAsBytes(file, heap));
+        Assertions.assertArrayEquals(Arrays.copyOf(data, 32), Arrays.copyOfRange(heap.array(), 32, 64));
+        heap.clear();
+        Assertions.assertEquals(0, FileIOUtil.readAsBytes(file, data.length + 1L, heap));
+
+        // 文件描述符
+        try (FileInputStream fis = new FileInputStream(file)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+            Assertions.assertEquals(16, FileIOUtil.readAsBytes(fis.getFD(), 50L, buffer));
+            buffer.flip();
+            Assertions.assertEquals(data[50], buffer.get(0));
+        }
+    }
+
+    @Test
+    void test_SkipOffset() throws Exception {
+        File file = Files.createTempFile("TestFileIOUtil", ".bin").toFile();
+        file.deleteOnExit();
+        byte[] data = new byte[1024 * 1024];
+        new Random(8L).nextBytes(data);
+        Files.write(file.toPath(), data);
+
+        // 文件描述符：偏移量相对于当前位置，通过移动读取位置跳过。
+        try (FileInputStream fis = new FileInputStream(file)) {
+            Assertions.assertEquals(data[0] & 0xFF, fis.read());
+            byte[] part = FileIOUtil.readAsBytes(fis.getFD(), 500000L, 10);
+            Assertions.assertArrayEquals(Arrays.copyOfRange(data, 500001, 500011), part);
+        }
+        try (FileInputStream fis = new FileInputStream(file)) {
+            Assertions.assertEquals(0, FileIOUtil.readAsBytes(fis.getFD(), data.length + 1L, 10).length);
+        }
+
+        // 不支持跳过的输入流：读取并丢弃数据
+        InputStream noSkip = new FilterInputStream(new ByteArrayInputStream(data)) {
+            @Override
+            public long skip(long n) {
+                return 0L;
+            }
+        };
+        Assertions.assertArrayEquals(Arrays.copyOfRange(data, 300000, 300100),
+                BaseIOUtil.readAsBytes(noSkip, 300000L, 100));
+    }
+
+    @Test
+    void test_TransferToFile() throws Exception {
+        File source = Files.createTempFile("TestFileIOUtil", ".src").toFile();
+        File dest = Files.createTempFile("TestFileIOUtil", ".dst").toFile();
+        source.deleteOnExit();
+        dest.deleteOnExit();
+        byte[] data = new byte[300 * 1024];
+        new Random(1L).nextBytes(data);
+        Files.write(source.toPath(), data);
+
+        // 文件之间通过"transferTo"复制
+        TransferResult result = FileIOUtil.transferToFile(source, dest);
+        System.out.println(result);
+        Assertions.assertTrue(result.isSuccess());
+        Assertions.assertTrue(result.isZeroCopy());
+        Assertions.assertEquals(data.length, result.getBytes());
+        Assertions.assertArrayEquals(data, Files.readAllBytes(dest.toPath()));
+
+        // 普通输入流通过缓冲区复制
+        result = FileIOUtil.transferToFile(new ByteArrayInputStream(data), dest, FileIOUtil.BUFFER_SIZE_8KB);
+        System.out.println(result);
+        Assertions.assertTrue(result.isSuccess());
+        Assertions.assertFalse(result.isZeroCopy());
+        Assertions.assertArrayEquals(data, Files.readAllBytes(dest.toPath()));
+    }
+
+    @Test
+    void test_SegmentedOutputStream() throws Exception {
+        byte[] data = new byte[300 * 1024 + 13];
+        new Random(6L).nextBytes(data);
+
+        // 阈值足够大，数据全部位于内存中。
+        try (SegmentedOutputStream memory = new SegmentedOutputStream(8 * 1024, Long.MAX_VALUE)) {
+            memory.write(data, 0, 100);
+            memory.write(data[100]);
+            memory.readFrom(new ByteArrayInputStream(data, 101, data.length - 101), Long.MAX_VALUE);
+            Assertions.assertFalse(memory.isSpilled());
+            Assertions.assertEquals(data.length, memory.size());
+            Assertions.assertArrayEquals(data, memory.toByteArray());
+            Assertions.assertArrayEquals(data, BaseIOUtil.readAllAsBytes(memory.toInputStream()));
+        }
+
+        // 数据量超过阈值后转存至临时文件
+        File dest = Files.createTempFile("TestFileIOUtil", ".bin").toFile();
+        dest.deleteOnExit();
+        try (SegmentedOutputStream spilled = new SegmentedOutputStream(8 * 1024, 64 * 1024)) {
+            for (int offset = 0; offset < data.length; offset += 1000) {
+                spilled.write(data, offset, Math.min(1000, data.length - offset));
+            }
+            Assertions.assertTrue(spilled.isSpilled());
+            Assertions.assertEquals(data.length, spilled.size());
+            Assertions.assertArrayEquals(data, spilled.toByteArray());
+            Assertions.assertArrayEquals(data, BaseIOUtil.readAllAsBytes(spilled.toInputStream()));
+
+            FileIOUtil.saveToFile(spilled, dest);
+            Assertions.assertArrayEquals(data, Files.readAllBytes(dest.toPath()));
+        }
+
+        // 文件描述符读取
+        try (FileInputStream fis = new FileInputStream(dest)) {
+            Assertions.assertArrayEquals(Arrays.copyOfRange(data, 7, data.length),
+                    FileIOUtil.readAsBytes(fis.getFD(), 7L, Integer.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void test_Compression() throws Exception {
+        byte[] data = new byte[512 * 1024];
+        Random random = new Random(9L);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) ('a' + random.nextInt(4));
+        }
+        File file = Files.createTempFile("TestFileIOUtil", ".gz").toFile();
+        file.deleteOnExit();
+
+        // 写入的GZIP文件可以被JDK读取
+        FileIOUtil.saveToFile(data, file, Compression.GZIP);
+        try (InputStream input = new GZIPInputStream(new FileInputStream(file))) {
+            Assertions.assertArrayEquals(data, BaseIOUtil.readAllAsBytes(input));
+        }
+        Assertions.assertArrayEquals(data, FileIOUtil.readAllAsBytes(file, Compression.GZIP));
+
+        // 读取JDK写入的多成员GZIP文件
+        ByteArrayOutputStream members = new ByteArrayOutputStream();
+        for (int i = 0; i < 2; i++) {
+            try (GZIPOutputStream output = new GZIPOutputStream(members) {
+                @Override
+                public void close() throws IOException {
+                    finish();
+                }
+            }) {
+                output.write(data, i * 1000, 1000);
+            }
+        }
+        Files.write(file.toPath(), members.toByteArray());
+        Assertions.assertArrayEquals(Arrays.copyOf(data, 2000), FileIOUtil.readAllAsBytes(file, Compression.GZIP));
+
+        // 原始Deflate格式，指定压缩级别与策略。
+        FileIOUtil.saveToFile(new ByteArrayInputStream(data), file, Compression.DEFLATE, Deflater.BEST_COMPRESSION,
+                Deflater.FILTERED);
+        try (InputStream input = new InflaterInputStream(new FileInputStream(file), new Inflater(true))) {
+            Assertions.assertArrayEquals(data, BaseIOUtil.readAllAsBytes(input));
+        }
+        Assertions.assertArrayEquals(data, FileIOUtil.readAllAsBytes(file, Compression.DEFLATE));
+
+        // 校验失败时返回空数组
+        FileIOUtil.saveToFile(data, file, Compression.GZIP);
+        byte[] corrupted = Files.readAllBytes(file.toPath());
+        corrupted[corrupted.length - 5]++;
+        Files.write(file.toPath(), corrupted);
+        Assertions.assertEquals(0, FileIOUtil.readAllAsBytes(file, Compression.GZIP).length);
+
+        // 尾部记录的原始长度被篡改时，不会按照该长度预先分配内存。
+        byte[] large = new byte[3 * 1024 * 1024];
+        random.nextBytes(large);
+        FileIOUtil.saveToFile(large, file, Compression.GZIP);
+        byte[] forged = Files.readAllBytes(file.toPath());
+        Arrays.fill(forged, forged.length - 4, forged.length, (byte) 0xFF);
+        Files.write(file.toPath(), forged);
+        Assertions.assertEquals(0, FileIOUtil.readAllAsBytes(file, Compression.GZIP).length);
+    }
+
+    @Test
+    void test_SaveMode() throws Exception {
+        File dir = Files.createTempDirectory("TestFileIOUtil").toFile();
+        File raceDir = null;
+        try {
+            File file = new File(dir, "data.bin");
+            byte[] data = "atomic".getBytes(StandardCharsets.UTF_8);
+
+            // 原子方式与持久化方式均替换原有内容，且不遗留临时文件。
+            Assertions.assertTrue(FileIOUtil.saveToFile(data, file, SaveMode.ATOMIC));
+            Assertions.assertArrayEquals(data, Files.readAllBytes(file.toPath()));
+            data = "durable".getBytes(StandardCharsets.UTF_8);
+            Assertions.assertTrue(FileIOUtil.saveToFile(new ByteArrayInputStream(data), file, SaveMode.DURABLE));
+            Assertions.assertArrayEquals(data, Files.readAllBytes(file.toPath()));
+            Assertions.assertEquals(Arrays.asList("data.bin"), Arrays.asList(dir.list()));
+
+            // 新文件的权限与直接写入时相同，已存在文件的权限保持不变。
+            if (Files.getFileStore(dir.toPath()).supportsFileAttributeView(PosixFileAttributeView.class)) {
+                File direct = new File(dir, "direct.bin");
+                File atomic = new File(dir, "atomic.bin");
+                Assertions.assertTrue(FileIOUtil.saveToFile(data, direct, SaveMode.DIRECT));
+                Assertions.assertTrue(FileIOUtil.saveToFile(data, atomic, SaveMode.ATOMIC));
+                Assertions.assertEquals(Files.getPosixFilePermissions(direct.toPath()),
+                        Files.getPosixFilePermissions(atomic.toPath()));
+
+                Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+                Files.setPosixFilePermissions(file.toPath(), permissions);
+                Assertions.assertTrue(FileIOUtil.saveToFile(data, file, SaveMode.DURABLE));
+                Assertions.assertEquals(permissions, Files.getPosixFilePermissions(file.toPath()));
+                try (GroupCommitter committer = new GroupCommitter()) {
+                    Assertions.assertTrue(committer.save(data, file).get(5L, TimeUnit.SECONDS));
+                }
+                Assertions.assertEquals(permissions, Files.getPosixFilePermissions(file.toPath()));
+                Assertions.assertTrue(direct.delete());
+                Assertions.assertTrue(atomic.delete());
+            }
+
+            // 多个线程同时开始保存，由组提交器合并提交，至少有一批包含多个文件。
+            int count = 32;
+            List<CompletableFuture<Boolean>> results = new ArrayList<>();
+            try (GroupCommitter committer = new GroupCommitter(5L, 8)) {
+                CountDownLatch start = new CountDownLatch(1);
+                List<Thread> threads = new ArrayList<>();
+                for (int t = 0; t < count; t++) {
+                    int index = t;
+                    Thread thread = new Thread(() -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                        CompletableFuture<Boolean> result = committer.save(("file" + index).getBytes(StandardCharsets.UTF_8),
+                                new File(dir, index + ".txt"));
+                        synchronized (results) {
+                            results.add(result);
+                        }
+                    });
+                    threads.add(thread);
+                    thread.start();
+                }
+                start.countDown();
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+                Assertions.assertEquals(count, results.size());
+                for (CompletableFuture<Boolean> result : results) {
+                    Assertions.assertTrue(result.get(5L, TimeUnit.SECONDS));
+                }
+                Assertions.assertEquals(count, committer.getCommitCount());
+                Assertions.assertTrue(committer.getBatchCount() < committer.getCommitCount(),
+                        "Batches:[" + committer.getBatchCount() + "]");
+            }
+            for (int i = 0; i < count; i++) {
+                Assertions.assertEquals("file" + i, new String(Files.readAllBytes(new File(dir, i + ".txt").toPath()),
+                        StandardCharsets.UTF_8));
+            }
+            Assertions.assertEquals(count + 1, dir.list().length);
+
+            // 与关闭操作并发的请求要么被提交，要么返回失败并删除临时文件，不会一直等待。
+            raceDir = Files.createTempDirectory("TestFileIOUtil").toFile();
+            for (int i = 0; i < 100; i++) {
+                GroupCommitter committer = new GroupCommitter();
+                File target = new File(raceDir, i + ".txt");
+                CompletableFuture<CompletableFuture<Boolean>> saving = CompletableFuture.supplyAsync(
+                        () -> committer.save(new byte[16], target));
+                committer.close();
+                boolean saved = saving.get(5L, TimeUnit.SECONDS).get(5L, TimeUnit.SECONDS);
+                Assertions.assertEquals(saved, target.exists());
+            }
+            for (String name : raceDir.list()) {
+                Assertions.assertTrue(name.endsWith(".txt"), name);
+            }
+        } finally {
+            deleteTree(dir);
+            if (raceDir != null) {
+                deleteTree(raceDir);
+            }
+        }
+    }
+
+    @Test
+    void test_AsyncFileIOUtil() throws Exception {
+        byte[] data = new byte[64 * 1024];
+        new Random(2L).nextBytes(data);
+
+        // 同时最多进行2个请求，其余请求排队等待。
+        AsyncFileIOUtil asyncIO = new AsyncFileIOUtil(2);
+        List<File> files = new ArrayList<>();
+        List<CompletableFuture<Boolean>> saves = new ArrayList<>();
+        IOMetrics metrics = IOMetrics.install();
+        try {
+            for (int i = 0; i < 8; i++) {
+                File file = Files.createTempFile("TestFileIOUtil", ".async").toFile();
+                file.deleteOnExit();
+                files.add(file);
+                saves.add(asyncIO.saveToFile(data, file));
+            }
+            for (CompletableFuture<Boolean> save : saves) {
+                Assertions.assertTrue(save.get());
+            }
+
+            for (File file : files) {
+                Assertions.assertArrayEquals(data, asyncIO.readAsBytes(file, 0L, data.length).get());
+            }
+        } finally {
+            IOMetrics.uninstall();
+        }
+        Assertions.assertEquals(8L, (long) metrics.getCalls().get("AsyncFileIOUtil.saveToFile"));
+        Assertions.assertEquals(8L, (long) metrics.getCalls().get("AsyncFileIOUtil.readAsBytes"));
+        Assertions.assertEquals(8L * data.length, metrics.getTotalBytesWritten());
+        Assertions.assertEquals(8L * data.length, metrics.getTotalBytesRead());
+
+        String hex = asyncIO.readAsHexText(files.get(0), 4).get();
+        Assertions.assertEquals(FileIOUtil.toHexString(new byte[]{data[0], data[1], data[2], data[3]}, true, true), hex);
+    }
+
+    @Test
+    void test_CopyFileParallel() throws Exception {
+        File source = Files.createTempFile("TestFileIOUtil", ".src").toFile();
+        File dest = Files.createTempFile("TestFileIOUtil", ".dst").toFile();
+        source.deleteOnExit();
+        dest.deleteOnExit();
+        byte[] data = new byte[3 * 1024 * 1024 + 123];
+        new Random(3L).nextBytes(data);
+        Files.write(source.toPath(), data);
+
+        AtomicLong progress = new AtomicLong();
+        TransferResult result = FileIOUtil.copyFileParallel(source, dest, null, 512 * 1024L,
+                (copied, total) -> progress.accumulateAndGet(copied, Math::max));
+        System.out.println(result);
+        Assertions.assertTrue(result.isSuccess());
+        Assertions.assertEquals(data.length, progress.get());
+        Assertions.assertArrayEquals(data, Files.readAllBytes(dest.toPath()));
+
+        // 不能复制至自身，源文件保持原样。
+        Assertions.assertFalse(FileIOUtil.copyFileParallel(source, source, null).isSuccess());
+        Assertions.assertArrayEquals(data, Files.readAllBytes(source.toPath()));
+
+        // 任一区域失败时，其他区域停止复制，整体返回失败。
+        result = FileIOUtil.copyFileParallel(source, dest, null, 512 * 1024L, (copied, total) -> {
+            throw new IllegalStateException("Listener failed");
+        });
+        Assertions.assertFalse(result.isSuccess());
+    }
+
+    @Test
+    void test_ReadRanges() throws Exception {
+        File file = Files.createTempFile("TestFileIOUtil", ".bin").toFile();
+        file.deleteOnExit();
+        byte[] data = new byte[64 * 1024];
+        new Random(4L).nextBytes(data);
+        Files.write(file.toPath(), data);
+
+        // 包含相邻、间隔较小、重叠以及超出文件末尾的区域，且顺序被打乱。
+        List<FileRange> ranges = Arrays.asList(
+                new FileRange(200L, 50),
+                new FileRange(100L, 100),
+                new FileRange(1000L, 10),
+                new FileRange(220L, 30),
+                new FileRange(data.length - 10L, 100)
+        );
+        List<byte[]> results = FileIOUtil.readRanges(file, ranges);
+        Assertions.assertEquals(ranges.size(), results.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            FileRange range = ranges.get(i);
+            int end = (int) Math.min(range.getEnd(), data.length);
+            Assertions.assertArrayEquals(Arrays.copyOfRange(data, (int) range.getOffset(), end), results.get(i));
+        }
+
+        // Buffer小于区域长度时，未读取的部分不能影响后续区域。
+        ByteBuffer b1 = ByteBuffer.allocate(50);
+        ByteBuffer b2 = ByteBuffer.allocate(10);
+        long total = FileIOUtil.readRanges(file, Arrays.asList(new FileRange(100L, 100), new FileRange(200L, 10)),
+                Arrays.asList(b1, b2));
+        Assertions.assertEquals(60L, total);
+        Assertions.assertArrayEquals(Arrays.copyOfRange(data, 100, 150), b1.array());
+        Assertions.assertArrayEquals(Arrays.copyOfRange(data, 200, 210), b2.array());
+    }
+
+    @Test
+    void test_HexCodec() throws Exception {
+        byte[] data = new byte[256];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        // 与逐字节调用"Integer.toHexString()"的结果一致
+        StringBuilder padded = new StringBuilder();
+        StringBuilder unpadded = new StringBuilder();
+        for (byte b : data) {
+            String hex = Integer.toHexString(b & 0xFF);
+            unpadded.append(hex);
+            padded.append(hex.length() < 2 ? "0" + hex : hex);
+        }
+        Assertions.assertEquals(padded.toString().toUpperCase(Locale.ROOT), FileIOUtil.toHexString(data, true, true));
+        Assertions.assertEquals(padded.toString(), FileIOUtil.toHexString(data, true, false));
+        Assertions.assertEquals(unpadded.toString(), FileIOUtil.toHexString(data, false, false));
+        Assertions.assertEquals(unpadded.toString(), new String(HexCodec.encodeToBytes(data, false, false), "US-ASCII"));
+
+        StringBuilder appended = new StringBuilder("0x");
+        HexCodec.encode(data, true, false, appended);
+        Assertions.assertEquals("0x" + padded, appended.toString());
+
+        Assertions.assertArrayEquals(data, HexCodec.decode(padded.toString().toUpperCase(Locale.ROOT)));
+        Assertions.assertArrayEquals(new byte[0], HexCodec.decode("ABC"));
+    }
+
+    @Test
+    void test_DirectoryWalker() throws Exception {
+        File root = Files.createTempDirectory("TestFileIOUtil").toFile();
+        try {
+            File sub = new File(root, "sub/deep");
+            Assertions.assertTrue(sub.mkdirs());
+            Files.write(new File(root, "a.log").toPath(), new byte[10]);
+            Files.write(new File(root, "b.txt").toPath(), new byte[10]);
+            Files.write(new File(root, "sub/c.log").toPath(), new byte[2000]);
+            Files.write(new File(sub, "d.log").toPath(), new byte[30]);
+            Files.write(new File(sub, "e.log").toPath(), new byte[0]);
+
+            // 文件名匹配，并限制文件长度。
+            List<String> names = new ArrayList<>();
+            DirectoryWalker walker = new DirectoryWalker(root, "*.log", 1L, 1000L, false);
+            long count = walker.walk((file, size) -> {
+                synchronized (names) {
+                    names.add(file.getName());
+                }
+            }, null, 2, 1);
+            names.sort(null);
+            Assertions.assertEquals(2L, count);
+            Assertions.assertEquals(Arrays.asList("a.log", "d.log"), names);
+
+            // 相对路径匹配，处理失败的文件不计入结果。
+            AtomicLong total = new AtomicLong();
+            count = new DirectoryWalker(root, "sub/**").walk((file, size) -> {
+                if (size == 0L) {
+                    throw new IllegalStateException("Empty file");
+                }
+                total.addAndGet(size);
+            }, null);
+            Assertions.assertEquals(2L, count);
+            Assertions.assertEquals(2030L, total.get());
+
+            // 使用外部线程池时，同时处理的文件数量同样不超过并行数量。
+            AtomicInteger active = new AtomicInteger();
+            AtomicInteger maxActive = new AtomicInteger();
+            ExecutorService executor = Executors.newCachedThreadPool();
+            try {
+                count = new DirectoryWalker(root, null).walk((file, size) -> {
+                    maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    Thread.sleep(20L);
+                    active.decrementAndGet();
+                }, executor, 2, 10);
+            } finally {
+                executor.shutdown();
+            }
+            Assertions.assertEquals(5L, count);
+            Assertions.assertTrue(maxActive.get() <= 2);
+        } finally {
+            deleteTree(root);
+        }
+    }
+
+    @Test
+    void test_FileTailer() throws Exception {
+        File file = Files.createTempFile("TestFileIOUtil", ".log").toFile();
+        file.deleteOnExit();
+        Files.write(file.toPath(), "old line\n".getBytes(StandardCharsets.UTF_8));
+
+        BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        AtomicInteger truncated = new AtomicInteger();
+        TailListener listener = new TailListener() {
+            @Override
+            public void onData(ByteBuffer data) {
+            }
+
+            @Override
+            public void onLine(String line) {
+                lines.add(line);
+            }
+
+            @Override
+            public void onTruncated() {
+                truncated.incrementAndGet();
+            }
+        };
+
+        try (FileTailer tailer = new FileTailer(file, listener, true, StandardCharsets.UTF_8, 10L, 50L)) {
+            tailer.start();
+            // 等待追踪器打开文件，避免追加的数据被视为已有内容。
+            while (tailer.getPosition() == 0L) {
+                Thread.sleep(5L);
+            }
+
+            // 一行数据被拆分为多次写入
+            Files.write(file.toPath(), "第一".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            Thread.sleep(100L);
+            Files.write(file.toPath(), "行\r\nsecond\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            Assertions.assertEquals("第一行", lines.poll(5L, TimeUnit.SECONDS));
+            Assertions.assertEquals("second", lines.poll(5L, TimeUnit.SECONDS));
+
+            // 截断后从起始位置重新读取
+            Files.write(file.toPath(), "new\n".getBytes(StandardCharsets.UTF_8));
+            Assertions.assertEquals("new", lines.poll(5L, TimeUnit.SECONDS));
+            Assertions.assertEquals(1, truncated.get());
+        }
+        Assertions.assertTrue(lines.isEmpty());
+
+        // 开始追踪时文件尚未创建，创建后从起始位置读取。
+        Assertions.assertTrue(file.delete());
+        try (FileTailer tailer = new FileTailer(file, listener, true, StandardCharsets.UTF_8, 10L, 50L)) {
+            tailer.start();
+            Thread.sleep(100L);
+            Files.write(file.toPath(), "first\n".getBytes(StandardCharsets.UTF_8));
+            Assertions.assertEquals("first", lines.poll(5L, TimeUnit.SECONDS));
+        }
+
+        // 出现错误后从原有位置继续读取，已传递的数据不会重复传递。
+        Files.write(file.toPath(), "a\nb\n".getBytes(StandardCharsets.UTF_8));
+        AtomicInteger errors = new AtomicInteger();
+        TailListener failingListener = new TailListener() {
+            @Override
+            public void onData(ByteBuffer data) {
+            }
+
+            @Override
+            public void onLine(String line) {
+                lines.add(line);
+                if (line.equals("b") && errors.get() == 0) {
+                    sneakyThrow(new IOException("injected"));
+                }
+            }
+
+            @Override
+            public void onError(Exception e) {
+                errors.incrementAndGet();
+            }
+        };
+        try (FileTailer tailer = new FileTailer(file, failingListener, false, StandardCharsets.UTF_8, 10L, 50L)) {
+            tailer.start();
+            Assertions.assertEquals("a", lines.poll(5L, TimeUnit.SECONDS));
+            Assertions.assertEquals("b", lines.poll(5L, TimeUnit.SECONDS));
+            while (errors.get() == 0) {
+                Thread.sleep(5L);
+            }
+
+            Files.write(file.toPath(), "c\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            Assertions.assertEquals("c", lines.poll(5L, TimeUnit.SECONDS));
+            Assertions.assertNull(lines.poll(200L, TimeUnit.MILLISECONDS));
+        }
+        Assertions.assertEquals(1, errors.get());
+
+        // 轮转：旧文件被重命名，原路径创建新文件。旧文件末尾的数据与新文件的数据均只传递一次。
+        File rotated = new File(file.getPath() + ".1");
+        rotated.deleteOnExit();
+        Files.write(file.toPath(), "old1\n".getBytes(StandardCharsets.UTF_8));
+        AtomicInteger rotations = new AtomicInteger();
+        TailListener rotationListener = new TailListener() {
+            @Override
+            public void onData(ByteBuffer data) {
+            }
+
+            @Override
+            public void onLine(String line) {
+                lines.add(line);
+            }
+
+            @Override
+            public void onRotated() {
+                rotations.incrementAndGet();
+            }
+        };
+        try (FileTailer tailer = new FileTailer(file, rotationListener, false, StandardCharsets.UTF_8, 10L, 50L)) {
+            tailer.start();
+            Assertions.assertEquals("old1", lines.poll(5L, TimeUnit.SECONDS));
+
+            // 追加后立即轮转，追加的数据只能从旧文件中读取。
+            Files.write(file.toPath(), "old2\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            Files.move(file.toPath(), rotated.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            Files.write(file.toPath(), "new1\n".getBytes(StandardCharsets.UTF_8));
+            Assertions.assertEquals("old2", lines.poll(5L, TimeUnit.SECONDS));
+            Assertions.assertEquals("new1", lines.poll(5L, TimeUnit.SECONDS));
+
+            Files.write(file.toPath(), "new2\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            Assertions.assertEquals("new2", lines.poll(5L, TimeUnit.SECONDS));
+            Assertions.assertNull(lines.poll(200L, TimeUnit.MILLISECONDS));
+        } finally {
+            Files.deleteIfExists(rotated.toPath());
+        }
+        Assertions.assertEquals(1, rotations.get());
+    }
+
+    /**
+     * 删除测试中创建的目录及其中的所有文件。
+     */
+    private static void deleteTree(File root) throws IOException {
+        List<Path> paths;
+        try (Stream<Path> stream = Files.walk(root.toPath())) {
+            paths = stream.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+        for (Path path : paths) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * 在未声明受检异常的方法中抛出受检异常。
+     */
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> void sneakyThrow(Throwable e) throws E {
+        throw (E) e;
+    }
 }
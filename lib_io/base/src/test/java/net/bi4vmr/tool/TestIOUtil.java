@@ -1,7 +1,12 @@
 package net.bi4vmr.tool;
 
+import net.bi4vmr.tool.java.io.base.BufferPool;
+import net.bi4vmr.tool.java.io.base.IOUtil;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+
 /**
  * 测试类：输入与输出工具。
  *
@@ -13,4 +18,30 @@ public class TestIOUtil {
     void test() {
         // TODO
     }
+
+    @Test
+    void test_BufferPool() {
+        BufferPool pool = new BufferPool(IOUtil.BUFFER_SIZE_1MB, IOUtil.BUFFER_SIZE_1MB);
+
+        // 申请的容量向上取整至最接近的等级
+        byte[] buffer = pool.acquire(1000);
+        Assertions.assertEquals(IOUtil.BUFFER_SIZE_8KB, buffer.length);
+        Assertions.assertEquals(1L, pool.getMissCount());
+
+        // 归还后再次申请将命中缓存
+        pool.release(buffer);
+        Assertions.assertSame(buffer, pool.acquire(IOUtil.BUFFER_SIZE_8KB));
+        Assertions.assertEquals(1L, pool.getHitCount());
+
+        // 超出保留上限的缓冲区不会被缓存
+        pool.release(new byte[IOUtil.BUFFER_SIZE_1MB]);
+        pool.release(new byte[IOUtil.BUFFER_SIZE_8KB]);
+        Assertions.assertEquals(IOUtil.BUFFER_SIZE_1MB, pool.getRetainedHeapBytes());
+
+        ByteBuffer direct = pool.acquireDirect(100);
+        Assertions.assertTrue(direct.isDirect());
+        Assertions.assertEquals(100, direct.limit());
+        pool.releaseDirect(direct);
+        Assertions.assertEquals(IOUtil.BUFFER_SIZE_8KB, pool.getRetainedDirectBytes());
+    }
 }
@@ -0,0 +1,54 @@
+// 基准测试模块，仅用于评估"lib_io"模块的性能，不发布至Maven仓库。
+//
+// 运行全部基准测试：
+//   ./gradlew :lib_io:benchmark:jmh
+// 首次运行下载依赖后，可以离线运行：
+//   ./gradlew --offline :lib_io:benchmark:jmh
+// 仅运行部分基准测试，并限制文件长度（字节）与缓冲区大小（字节）：
+//   ./gradlew :lib_io:benchmark:jmh -Pjmh.includes=ReadBenchmark -Pjmh.fileSize=4096,1048576 -Pjmh.bufferSize=8192
+//
+// 测试结果位于"build/results/jmh/results.json"，"gc.alloc.rate"与"gc.alloc.rate.norm"为内存分配速率。
+
+plugins {
+    id(libJava.plugins.java.library.get().pluginId)
+    id(libJava.plugins.jmh.get().pluginId)
+    id(privateLibJava.plugins.java.version.get().pluginId)
+    id(privateLibJava.plugins.repo.private.get().pluginId)
+    id(privateLibJava.plugins.repo.public.get().pluginId)
+}
+
+dependencies {
+    // 直接依赖源码模块，测试当前工作区中的代码。
+    jmh(project(":lib_io:base"))
+
+    // JMH核心
+    jmh(libJava.jmh.core)
+    // JMH注解处理器
+    jmhAnnotationProcessor(libJava.jmh.generator.annprocess)
+}
+
+jmh {
+    jmhVersion = libJava.versions.jmh.get()
+
+    // 默认参数
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    // 最大的测试文件为1GB，需要足够的堆内存读取全部内容；文本读取测试的文件最大为64MB。
+    jvmArgs.addAll("-Xms4g", "-Xmx4g")
+    // GC分析器：输出内存分配速率与GC次数
+    profilers.add("gc")
+    resultFormat = "JSON"
+
+    // 通过命令行参数筛选基准测试与测试参数
+    findProperty("jmh.includes")?.let { includes.add(it.toString()) }
+    listOf("fileSize", "bufferSize").forEach { name ->
+        findProperty("jmh.$name")?.let { value ->
+            benchmarkParameters.put(name, objects.listProperty<String>().value(value.toString().split(",")))
+        }
+    }
+}
+
+javaVersionConfig {
+    jdkVersion = JavaVersion.VERSION_1_8
+}
@@ -0,0 +1,106 @@
+package net.bi4vmr.tool.java.io.benchmark;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * 基准测试数据文件。
+ * <p>
+ * 测试文件在本地生成，内容为固定种子的随机ASCII文本，并缓存在临时目录中供后续测试复用，运行过程中无需访问网络。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+final class BenchmarkFiles {
+
+    /**
+     * 测试文件所在目录。
+     */
+    private static final File DIRECTORY = new File(System.getProperty("java.io.tmpdir"), "io-benchmark");
+
+    /**
+     * 生成文件时的分块大小。
+     */
+    private static final int CHUNK_SIZE = 1024 * 1024;
+
+    private BenchmarkFiles() {
+    }
+
+    /**
+     * 获取指定长度的测试文件，文件不存在或长度不符时重新生成。
+     *
+     * @param size 文件长度（字节）。
+     * @return 测试文件。
+     * @throws IOException 生成文件失败。
+     */
+    static File prepare(long size) throws IOException {
+        File file = new File(DIRECTORY, "data-" + size + ".txt");
+        if (file.length() == size) {
+            return file;
+        }
+
+        if (!DIRECTORY.isDirectory() && !DIRECTORY.mkdirs()) {
+            throw new IOException("Create directory failed: " + DIRECTORY);
+        }
+
+        byte[] chunk = content(CHUNK_SIZE);
+        try (OutputStream output = new FileOutputStream(file)) {
+            long remaining = size;
+            while (remaining > 0L) {
+                int count = (int) Math.min(remaining, chunk.length);
+                output.write(chunk, 0, count);
+                remaining -= count;
+            }
+        }
+
+        return file;
+    }
+
+    /**
+     * 生成指定长度的测试数据。
+     *
+     * @param size 数据长度（字节）。
+     * @return 测试数据，内容为按行分隔的ASCII文本。
+     */
+    static byte[] content(int size) {
+        byte[] words = "lorem ipsum dolor sit amet consectetur adipiscing elit sed do eiusmod tempor"
+                .getBytes(StandardCharsets.US_ASCII);
+        byte[] data = new byte[size];
+        Random random = new Random(size);
+        for (int i = 0; i < size; i++) {
+            data[i] = (i % 80 == 79) ? (byte) '\n' : words[random.nextInt(words.length)];
+        }
+        return data;
+    }
+
+    /**
+     * 创建输出测试使用的目标文件。
+     *
+     * @return 目标文件。
+     * @throws IOException 创建失败。
+     */
+    static File createTarget() throws IOException {
+        if (!DIRECTORY.isDirectory() && !DIRECTORY.mkdirs()) {
+            throw new IOException("Create directory failed: " + DIRECTORY);
+        }
+
+        File file = File.createTempFile("target-", ".bin", DIRECTORY);
+        file.deleteOnExit();
+        return file;
+    }
+
+    /**
+     * 删除输出测试使用的目标文件，删除失败时在虚拟机退出时再次尝试。
+     *
+     * @param file 目标文件。
+     */
+    static void deleteTarget(File file) {
+        if (file != null && !file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package net.bi4vmr.tool.java.io.benchmark;
+
+import net.bi4vmr.tool.java.io.base.FileIOUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 十六进制文本读取方法的基准测试。
+ * <p>
+ * 十六进制文本的长度至少为数据的两倍，1GB文件的结果超出字符串的最大长度，因此文件长度最大为64MB。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HexBenchmark {
+
+    /**
+     * 文件长度：4KB、1MB、64MB。
+     */
+    @Param({"4096", "1048576", "67108864"})
+    public int fileSize;
+
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        file = BenchmarkFiles.prepare(fileSize);
+    }
+
+    @Benchmark
+    public String readAsHexText() {
+        return FileIOUtil.readAsHexText(file);
+    }
+}
@@ -0,0 +1,159 @@
+package net.bi4vmr.tool.java.io.benchmark;
+
+import net.bi4vmr.tool.java.io.base.BaseIOUtil;
+import net.bi4vmr.tool.java.io.base.FileIOUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 二进制读取方法的基准测试。
+ * <p>
+ * 测试结果为每秒操作次数，每次操作读取整个文件，乘以文件长度即为吞吐量。缓冲区大小取自 {@link net.bi4vmr.tool.java.io.base.IOUtil}
+ * 中的常量（注解参数只能使用字面量）；不使用缓冲区参数的方法通过 {@link PlainFile} 获取文件，避免按缓冲区大小重复执行。
+ * <p>
+ * {@link #readAsBytesLegacy(BufferedFile)} 保留了旧版本逐块复制至List再合并的实现，作为
+ * {@link #readAsBytesFromStream(BufferedFile)} 的对照组。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ReadBenchmark {
+
+    @Benchmark
+    public byte[] readAsBytesFromStream(BufferedFile state) throws IOException {
+        return BaseIOUtil.readAsBytes(new FileInputStream(state.file), 0L, state.fileSize, state.bufferSize);
+    }
+
+    @Benchmark
+    public byte[] readAsBytesLegacy(BufferedFile state) throws IOException {
+        return legacyReadAsBytes(new FileInputStream(state.file), state.fileSize, state.bufferSize);
+    }
+
+    @Benchmark
+    public byte[] readAsBytesFromFile(PlainFile state) {
+        return FileIOUtil.readAsBytes(state.file, 0L, state.fileSize);
+    }
+
+    @Benchmark
+    public byte[] readAsBytesFromFD(BufferedFile state) throws IOException {
+        try (InputStream input = new FileInputStream(state.file)) {
+            return FileIOUtil.readAsBytes(((FileInputStream) input).getFD(), 0L, state.fileSize, state.bufferSize);
+        }
+    }
+
+    /**
+     * 旧版本的实现：每轮读取的数据复制为独立的数组并添加至List，读取完毕后再合并为单个数组。
+     */
+    private static byte[] legacyReadAsBytes(InputStream stream, int length, int bufferSize) throws IOException {
+        try (BufferedInputStream bis = new BufferedInputStream(stream, bufferSize)) {
+            List<byte[]> result = new ArrayList<>();
+            byte[] buffer = new byte[bufferSize];
+            int remaining = length;
+            while (remaining > 0) {
+                int count = bis.read(buffer, 0, Math.min(bufferSize, remaining));
+                if (count == -1) {
+                    break;
+                }
+
+                if (count > 0) {
+                    result.add(Arrays.copyOfRange(buffer, 0, count));
+                    remaining -= count;
+                }
+            }
+
+            return mergeByteArrayList(result);
+        }
+    }
+
+    /**
+     * 旧版本的"mergeByteArrayList"：过滤空值后将List中的元素合并为一个数组。
+     */
+    private static byte[] mergeByteArrayList(List<byte[]> input) {
+        if (input.isEmpty()) {
+            return new byte[0];
+        }
+
+        int validCount = 0;
+        List<byte[]> listNonNull = new ArrayList<>();
+        for (byte[] item : input) {
+            if (item != null) {
+                validCount += item.length;
+                listNonNull.add(item);
+            }
+        }
+
+        byte[] result = new byte[validCount];
+        int position = 0;
+        for (byte[] item : listNonNull) {
+            System.arraycopy(item, 0, result, position, item.length);
+            position += item.length;
+        }
+
+        return result;
+    }
+
+    /**
+     * 测试文件与缓冲区大小。
+     */
+    @State(Scope.Benchmark)
+    public static class BufferedFile {
+
+        /**
+         * 文件长度：4KB、1MB、64MB、256MB、1GB。
+         */
+        @Param({"4096", "1048576", "67108864", "268435456", "1073741824"})
+        public int fileSize;
+
+        /**
+         * 缓冲区大小：8KB、128KB、256KB、512KB、1MB、4MB、8MB、32MB。
+         */
+        @Param({"8192", "131072", "262144", "524288", "1048576", "4194304", "8388608", "33554432"})
+        public int bufferSize;
+
+        private File file;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            file = BenchmarkFiles.prepare(fileSize);
+        }
+    }
+
+    /**
+     * 测试文件。
+     */
+    @State(Scope.Benchmark)
+    public static class PlainFile {
+
+        /**
+         * 文件长度：4KB、1MB、64MB、256MB、1GB。
+         */
+        @Param({"4096", "1048576", "67108864", "268435456", "1073741824"})
+        public int fileSize;
+
+        private File file;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            file = BenchmarkFiles.prepare(fileSize);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package net.bi4vmr.tool.java.io.benchmark;
+
+import net.bi4vmr.tool.java.io.base.FileIOUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 转存方法的基准测试。
+ * <p>
+ * 测试结果为每秒操作次数，每次操作将内存中的全部数据写入同一个目标文件，乘以文件长度即为吞吐量。字节数组一次性写入，缓冲区大小对其没有
+ * 影响，因此 {@link #saveBytes(PlainData)} 通过 {@link PlainData} 获取数据，避免按缓冲区大小重复执行。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SaveBenchmark {
+
+    @Benchmark
+    public void saveBytes(PlainData state) {
+        FileIOUtil.saveToFile(state.data, state.target);
+    }
+
+    @Benchmark
+    public void saveStream(BufferedData state) {
+        FileIOUtil.saveToFile(new ByteArrayInputStream(state.data), state.target, state.bufferSize);
+    }
+
+    /**
+     * 测试数据与缓冲区大小。
+     */
+    @State(Scope.Benchmark)
+    public static class BufferedData {
+
+        /**
+         * 文件长度：4KB、1MB、64MB、1GB。
+         */
+        @Param({"4096", "1048576", "67108864", "1073741824"})
+        public int fileSize;
+
+        /**
+         * 缓冲区大小：8KB、128KB、256KB、512KB、1MB、4MB、8MB、32MB。
+         */
+        @Param({"8192", "131072", "262144", "524288", "1048576", "4194304", "8388608", "33554432"})
+        public int bufferSize;
+
+        private byte[] data;
+        private File target;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            data = BenchmarkFiles.content(fileSize);
+            target = BenchmarkFiles.createTarget();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            BenchmarkFiles.deleteTarget(target);
+        }
+    }
+
+    /**
+     * 测试数据。
+     */
+    @State(Scope.Benchmark)
+    public static class PlainData {
+
+        /**
+         * 文件长度：4KB、1MB、64MB、1GB。
+         */
+        @Param({"4096", "1048576", "67108864", "1073741824"})
+        public int fileSize;
+
+        private byte[] data;
+        private File target;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            data = BenchmarkFiles.content(fileSize);
+            target = BenchmarkFiles.createTarget();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            BenchmarkFiles.deleteTarget(target);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package net.bi4vmr.tool.java.io.benchmark;
+
+import net.bi4vmr.tool.java.io.base.BaseIOUtil;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 文本读取方法的基准测试。
+ * <p>
+ * 在Java 8中，文本在解码过程中需要扩容至两倍长度的字符数组，生成字符串时还需要再复制一次，1GB文件所需的堆内存远超其他测试，因此文件
+ * 长度最大为64MB。
+ * <p>
+ * 不同文件长度的每秒操作次数无法直接比较，因此通过 {@link ByteCounter} 同时报告每秒处理的字节数，可以直接换算为MB/s。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TextBenchmark {
+
+    @Benchmark
+    public String readAllAsText(BufferedFile state, ByteCounter counter) throws IOException {
+        counter.bytes += state.fileSize;
+        return BaseIOUtil.readAllAsText(new FileInputStream(state.file), state.bufferSize);
+    }
+
+    /**
+     * 与 {@link #readAllAsText(BufferedFile, ByteCounter)} 对比，文件长度作为容量提示。
+     */
+    @Benchmark
+    public String decodeAllAsText(PlainFile state, ByteCounter counter) throws IOException {
+        counter.bytes += state.fileSize;
+        return BaseIOUtil.decodeAllAsText(new FileInputStream(state.file), state.fileSize, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 已处理的字节数。
+     * <p>
+     * 吞吐量模式下，结果中的"bytes"一项即为每秒处理的字节数，除以1048576即为MB/s。
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ByteCounter {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0L;
+        }
+    }
+
+    /**
+     * 测试文件与缓冲区大小。
+     */
+    @State(Scope.Benchmark)
+    public static class BufferedFile {
+
+        /**
+         * 文件长度：4KB、1MB、64MB。
+         */
+        @Param({"4096", "1048576", "67108864"})
+        public int fileSize;
+
+        /**
+         * 缓冲区大小：8KB、128KB、256KB、512KB、1MB、4MB、8MB、32MB。
+         */
+        @Param({"8192", "131072", "262144", "524288", "1048576", "4194304", "8388608", "33554432"})
+        public int bufferSize;
+
+        private File file;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            file = BenchmarkFiles.prepare(fileSize);
+        }
+    }
+
+    /**
+     * 测试文件。
+     */
+    @State(Scope.Benchmark)
+    public static class PlainFile {
+
+        /**
+         * 文件长度：4KB、1MB、64MB。
+         */
+        @Param({"4096", "1048576", "67108864"})
+        public int fileSize;
+
+        private File file;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            file = BenchmarkFiles.prepare(fileSize);
+        }
+    }
+}
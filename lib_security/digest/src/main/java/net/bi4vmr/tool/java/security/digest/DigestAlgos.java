@@ -11,22 +11,24 @@ public enum DigestAlgos {
     /**
      * JDK内置算法：MD5
      */
-    MD5("MD5"),
+    MD5("MD5", 16),
 
     /**
      * JDK内置算法：SHA-1
      */
-    SHA_1("SHA"),
+    SHA_1("SHA", 20),
 
     /**
      * JDK内置算法：SHA-256
      */
-    SHA_256("SHA-256");
+    SHA_256("SHA-256", 32);
 
     private final String standardName;
+    private final int digestLength;
 
-    DigestAlgos(String standardName) {
+    DigestAlgos(String standardName, int digestLength) {
         this.standardName = standardName;
+        this.digestLength = digestLength;
     }
 
     /**
@@ -37,4 +39,13 @@ public enum DigestAlgos {
     public String getStandardName() {
         return standardName;
     }
+
+    /**
+     * 获取该算法的摘要长度。
+     *
+     * @return 摘要长度（字节）。
+     */
+    public int getDigestLength() {
+        return digestLength;
+    }
 }
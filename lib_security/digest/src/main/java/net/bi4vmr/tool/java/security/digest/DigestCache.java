@@ -0,0 +1,101 @@
+package net.bi4vmr.tool.java.security.digest;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 文件消息摘要缓存。
+ * <p>
+ * 以文件的绝对路径与算法为键，记录计算时文件的长度与修改时间。再次计算同一文件时，长度与修改时间均未变化则直接使用缓存的结果，无需重新
+ * 读取文件内容。
+ * <p>
+ * 该类是线程安全的。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public final class DigestCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /**
+     * 查询缓存的消息摘要。
+     *
+     * @param algo         算法。
+     * @param file         文件。
+     * @param size         文件当前的长度（字节）。
+     * @param lastModified 文件当前的修改时间。
+     * @return 消息摘要。没有缓存，或文件已发生变化时返回空值。
+     */
+    public String get(DigestAlgos algo, File file, long size, long lastModified) {
+        Entry entry = entries.get(keyOf(algo, file));
+        if (entry == null || entry.size != size || entry.lastModified != lastModified) {
+            return null;
+        }
+
+        hitCount.incrementAndGet();
+        return entry.digest;
+    }
+
+    /**
+     * 缓存消息摘要。
+     *
+     * @param algo         算法。
+     * @param file         文件。
+     * @param size         计算前文件的长度（字节）。
+     * @param lastModified 计算前文件的修改时间。
+     * @param digest       消息摘要。
+     */
+    public void put(DigestAlgos algo, File file, long size, long lastModified, String digest) {
+        entries.put(keyOf(algo, file), new Entry(size, lastModified, digest));
+    }
+
+    /**
+     * 获取缓存命中的次数。
+     *
+     * @return 命中次数。
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * 获取缓存的条目数量。
+     *
+     * @return 条目数量。
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 清空缓存。
+     */
+    public void clear() {
+        entries.clear();
+        hitCount.set(0L);
+    }
+
+    private static String keyOf(DigestAlgos algo, File file) {
+        return algo.name() + ":" + file.getAbsolutePath();
+    }
+
+    /**
+     * 缓存条目
+     */
+    private static final class Entry {
+
+        private final long size;
+        private final long lastModified;
+        private final String digest;
+
+        Entry(long size, long lastModified, String digest) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.digest = digest;
+        }
+    }
+}
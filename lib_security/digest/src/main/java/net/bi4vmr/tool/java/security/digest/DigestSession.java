@@ -0,0 +1,108 @@
+package net.bi4vmr.tool.java.security.digest;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+
+/**
+ * 消息摘要计算会话。
+ * <p>
+ * 用于分批到达的数据（例如从网络接收的数据），每收到一段数据即可调用 {@link #update(byte[], int, int)} 方法更新计算结果，无需先将
+ * 完整的数据缓存至内存中。会话直接读取调用者传入的数组或缓冲区，不会复制数据。
+ * <p>
+ * 调用 {@link #finish()} 方法获取消息摘要后，会话将被重置，可以继续用于计算下一段数据。
+ * <p>
+ * 该类不是线程安全的。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public final class DigestSession {
+
+    private final DigestAlgos algo;
+    private final MessageDigest md;
+    private long length;
+
+    DigestSession(DigestAlgos algo, MessageDigest md) {
+        this.algo = algo;
+        this.md = md;
+    }
+
+    /**
+     * 使用单个字节更新计算结果。
+     *
+     * @param b 数据。
+     */
+    public void update(byte b) {
+        md.update(b);
+        length++;
+    }
+
+    /**
+     * 使用数组更新计算结果。
+     *
+     * @param data 数据。
+     */
+    public void update(byte[] data) {
+        update(data, 0, data.length);
+    }
+
+    /**
+     * 使用数组的指定区域更新计算结果。
+     *
+     * @param data   数据。
+     * @param offset 起始位置。
+     * @param len    长度。
+     */
+    public void update(byte[] data, int offset, int len) {
+        md.update(data, offset, len);
+        length += len;
+    }
+
+    /**
+     * 使用缓冲区中的剩余数据更新计算结果。
+     * <p>
+     * 缓冲区的"position"将移动至"limit"处。
+     *
+     * @param buffer 缓冲区。
+     */
+    public void update(ByteBuffer buffer) {
+        length += buffer.remaining();
+        md.update(buffer);
+    }
+
+    /**
+     * 结束计算并获取消息摘要，随后重置会话。
+     *
+     * @return 消息摘要（大写的16进制文本）。
+     */
+    public String finish() {
+        length = 0L;
+        return MessageDigestUtil.toHexString(md.digest());
+    }
+
+    /**
+     * 放弃已输入的数据，重置会话。
+     */
+    public void reset() {
+        md.reset();
+        length = 0L;
+    }
+
+    /**
+     * 获取算法。
+     *
+     * @return 算法。
+     */
+    public DigestAlgos getAlgo() {
+        return algo;
+    }
+
+    /**
+     * 获取自上次重置以来输入的字节数。
+     *
+     * @return 字节数。
+     */
+    public long getLength() {
+        return length;
+    }
+}
@@ -0,0 +1,114 @@
+package net.bi4vmr.tool.java.security.digest;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 计算消息摘要的输入流。
+ * <p>
+ * 包装现有的输入流，读取数据的同时使用读出的数据更新会话，关闭流时结束计算，之后可以通过 {@link #getDigest()} 方法获取结果。通过
+ * {@link #skip(long)} 方法跳过的数据同样会参与计算；该流不支持"mark/reset"。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public class DigestingInputStream extends FilterInputStream {
+
+    private final DigestSession session;
+    private String digest;
+
+    /**
+     * 构造方法。
+     *
+     * @param in      被包装的输入流。
+     * @param session 消息摘要计算会话。
+     */
+    public DigestingInputStream(InputStream in, DigestSession session) {
+        super(in);
+        this.session = session;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b != -1) {
+            session.update((byte) b);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int count = in.read(b, off, len);
+        if (count > 0) {
+            session.update(b, off, count);
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // 跳过的数据也需要参与计算，因此读取后丢弃。
+        byte[] buffer = new byte[(int) Math.min(Math.max(n, 0L), 8192L)];
+        long skipped = 0L;
+        while (skipped < n) {
+            int count = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (count == -1) {
+                break;
+            }
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void mark(int readlimit) {
+    }
+
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * 关闭被包装的输入流，并结束计算。
+     * <p>
+     * 重复调用时不会再次结束计算。
+     *
+     * @throws IOException 关闭失败。
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if (digest == null) {
+                digest = session.finish();
+            }
+        }
+    }
+
+    /**
+     * 获取消息摘要。
+     *
+     * @return 消息摘要（大写的16进制文本），流尚未关闭时返回空值。
+     */
+    public String getDigest() {
+        return digest;
+    }
+
+    /**
+     * 获取消息摘要计算会话。
+     *
+     * @return 会话。
+     */
+    public DigestSession getSession() {
+        return session;
+    }
+}
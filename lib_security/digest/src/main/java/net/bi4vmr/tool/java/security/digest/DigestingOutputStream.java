@@ -0,0 +1,79 @@
+package net.bi4vmr.tool.java.security.digest;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 计算消息摘要的输出流。
+ * <p>
+ * 包装现有的输出流，写入数据的同时使用写入的数据更新会话，关闭流时结束计算，之后可以通过 {@link #getDigest()} 方法获取结果。数组将
+ * 整段写入被包装的输出流，不会像 {@link FilterOutputStream} 的默认实现一样逐个字节写入。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+public class DigestingOutputStream extends FilterOutputStream {
+
+    private final DigestSession session;
+    private String digest;
+
+    /**
+     * 构造方法。
+     *
+     * @param out     被包装的输出流。
+     * @param session 消息摘要计算会话。
+     */
+    public DigestingOutputStream(OutputStream out, DigestSession session) {
+        super(out);
+        this.session = session;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        session.update((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        session.update(b, off, len);
+    }
+
+    /**
+     * 关闭被包装的输出流，并结束计算。
+     * <p>
+     * 重复调用时不会再次结束计算。
+     *
+     * @throws IOException 关闭失败。
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if (digest == null) {
+                digest = session.finish();
+            }
+        }
+    }
+
+    /**
+     * 获取消息摘要。
+     *
+     * @return 消息摘要（大写的16进制文本），流尚未关闭时返回空值。
+     */
+    public String getDigest() {
+        return digest;
+    }
+
+    /**
+     * 获取消息摘要计算会话。
+     *
+     * @return 会话。
+     */
+    public DigestSession getSession() {
+        return session;
+    }
+}
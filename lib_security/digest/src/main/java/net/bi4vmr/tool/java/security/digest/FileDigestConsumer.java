@@ -0,0 +1,24 @@
+package net.bi4vmr.tool.java.security.digest;
+
+import java.io.File;
+
+/**
+ * 文件消息摘要的接收者。
+ * <p>
+ * 批量计算文件的消息摘要时，每个文件计算完毕后立即回调本接口，无需等待全部文件计算完毕。回调可能在多个线程中同时执行，实现类必须是线程
+ * 安全的。
+ *
+ * @author bi4vmr@outlook.com
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface FileDigestConsumer {
+
+    /**
+     * 接收一个文件的消息摘要。
+     *
+     * @param file   文件。
+     * @param digest 消息摘要（大写的16进制文本）。
+     */
+    void accept(File file, String digest);
+}
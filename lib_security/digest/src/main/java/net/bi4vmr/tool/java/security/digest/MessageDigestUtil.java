@@ -1,11 +1,30 @@
 package net.bi4vmr.tool.java.security.digest;
 
-import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
-import java.util.Locale;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 消息摘要工具。
@@ -14,6 +33,45 @@ import java.util.Locale;
  */
 public class MessageDigestUtil {
 
+    /**
+     * 十六进制字符表
+     */
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * 各线程缓存的消息摘要工具实例，按照算法的序号存放。
+     * <p>
+     * {@link MessageDigest#getInstance(String)} 方法每次调用都需要查找安全提供者并创建新的实例，大量计算短数据的摘要时开销明显。
+     * MessageDigest不是线程安全的，因此每个线程分别缓存，使用前重置即可复用。
+     */
+    private static final ThreadLocal<MessageDigest[]> DIGESTS =
+            ThreadLocal.withInitial(() -> new MessageDigest[DigestAlgos.values().length]);
+
+    /**
+     * 文件读取缓冲区的最小容量：8KB
+     */
+    private static final int FILE_BUFFER_MIN_SIZE = 8 * 1024;
+
+    /**
+     * 文件读取缓冲区的最大容量：1MB
+     */
+    private static final int FILE_BUFFER_MAX_SIZE = 1024 * 1024;
+
+    /**
+     * 使用内存映射方式读取的文件长度阈值：64MB
+     */
+    private static final long MAPPED_THRESHOLD = 64L * 1024 * 1024;
+
+    /**
+     * 每次内存映射的区域长度：256MB
+     */
+    private static final long MAPPED_WINDOW_SIZE = 256L * 1024 * 1024;
+
+    /**
+     * 各线程缓存的文件读取缓冲区（直接内存）。
+     */
+    private static final ThreadLocal<ByteBuffer> FILE_BUFFERS = new ThreadLocal<>();
+
     /*
      * ----- 输入参数为数组 -----
      */
@@ -29,18 +87,12 @@ public class MessageDigestUtil {
         String result = "";
 
         try {
-            // 获取消息摘要工具实例
-            MessageDigest md = MessageDigest.getInstance(algo.getStandardName());
+            // 获取当前线程缓存的消息摘要工具实例
+            MessageDigest md = getDigest(algo);
             // 获取消息摘要内容
             byte[] bytes = md.digest(data);
             // 将消息摘要转为16进制表示
-            StringBuilder builder = new StringBuilder();
-            for (byte num : bytes) {
-                // 将数值与 `0x100` 进行或运算后，统一为 `1` 开头的三位数，便于后续步骤进行截取。
-                String hex = Integer.toHexString((num & 0xFF) | 0x100);
-                builder.append(hex, 1, 3);
-            }
-            result = builder.toString().toUpperCase(Locale.ROOT);
+            result = toHexString(bytes);
         } catch (Exception e) {
             // 通常不会执行至此处，因为该方法只接受JDK支持的算法。
             System.err.println("Get message digest failed! Reason:[" + e.getMessage() + "]");
@@ -79,6 +131,50 @@ public class MessageDigestUtil {
         return getMessageDigest(DigestAlgos.SHA_256, data);
     }
 
+    /**
+     * 获取消息摘要，并将结果写入指定的数组。
+     * <p>
+     * 该方法不生成十六进制文本，也不创建新的数组，适用于大量计算短数据摘要的场景。
+     *
+     * @param algo      算法，请选择 {@link DigestAlgos} 中的枚举常量。
+     * @param data      原始数据。
+     * @param offset    原始数据的起始位置。
+     * @param length    原始数据的长度。
+     * @param out       接收消息摘要的数组，剩余空间不得小于 {@link DigestAlgos#getDigestLength()} 。
+     * @param outOffset 写入消息摘要的起始位置。
+     * @return 消息摘要的长度（字节），计算失败时返回"-1"。
+     */
+    public static int digestInto(DigestAlgos algo, byte[] data, int offset, int length, byte[] out, int outOffset) {
+        try {
+            MessageDigest md = getDigest(algo);
+            md.update(data, offset, length);
+            return md.digest(out, outOffset, out.length - outOffset);
+        } catch (Exception e) {
+            System.err.println("Get message digest failed! Reason:[" + e.getMessage() + "]");
+        }
+
+        return -1;
+    }
+
+    /**
+     * 获取消息摘要，并将结果写入指定的数组。
+     * <p>
+     * 消息摘要将从"out"数组的起始位置开始写入。
+     *
+     * @param algo 算法，请选择 {@link DigestAlgos} 中的枚举常量。
+     * @param data 原始数据。
+     * @param out  接收消息摘要的数组，长度不得小于 {@link DigestAlgos#getDigestLength()} 。
+     * @return 消息摘要的长度（字节），计算失败时返回"-1"。
+     */
+    public static int digestInto(DigestAlgos algo, byte[] data, byte[] out) {
+        if (data == null) {
+            System.err.println("Get message digest failed! Reason:[Data is null]");
+            return -1;
+        }
+
+        return digestInto(algo, data, 0, data.length, out, 0);
+    }
+
     /*
      * ----- 输入参数为文本 -----
      */
@@ -133,7 +229,8 @@ public class MessageDigestUtil {
     /**
      * 获取消息摘要。
      * <p>
-     * 采用分批读取文件内容的方法进行计算，防止文件过大时导致内存溢出。
+     * 采用分批读取文件内容的方法进行计算，防止文件过大时导致内存溢出。文件通过通道读取至各线程复用的直接内存缓冲区中，缓冲区容量根据文件
+     * 长度确定，最大为1MB；超过64MB的文件将分段映射至内存，数据无需复制至Java堆中。
      *
      * @param algo 算法，请选择 {@link DigestAlgos} 中的枚举常量。
      * @param file 目标文件。
@@ -143,33 +240,17 @@ public class MessageDigestUtil {
         String result = "";
 
         try (
-                FileInputStream fis = new FileInputStream(file);
-                BufferedInputStream bis = new BufferedInputStream(fis);
+                FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)
         ) {
-            // 获取消息摘要工具实例
-            MessageDigest md = MessageDigest.getInstance(algo.getStandardName());
-            // 文件缓冲区默认8M
-            byte[] buffer = new byte[8 * 1024 * 1024];
-            while (true) {
-                int count = bis.read(buffer);
-                if (count != -1) {
-                    // 追加数据，更新计算结果。
-                    md.update(buffer, 0, count);
-                } else {
-                    break;
-                }
-            }
+            // 获取当前线程缓存的消息摘要工具实例
+            MessageDigest md = getDigest(algo);
+            // 读取文件内容，更新计算结果。
+            updateDigest(channel, md);
 
             // 获取消息摘要内容
             byte[] bytes = md.digest();
             // 将消息摘要转为16进制表示
-            StringBuilder builder = new StringBuilder();
-            for (byte num : bytes) {
-                // 将数值与 `0x100` 进行或运算后，统一为 `1` 开头的三位数，便于后续步骤进行截取。
-                String hex = Integer.toHexString((num & 0xFF) | 0x100);
-                builder.append(hex, 1, 3);
-            }
-            result = builder.toString().toUpperCase(Locale.ROOT);
+            result = toHexString(bytes);
         } catch (Exception e) {
             // 通常不会执行至此处，因为该方法只接受JDK支持的算法。
             System.err.println("Get message digest failed! Reason:[" + e.getMessage() + "]");
@@ -213,4 +294,355 @@ public class MessageDigestUtil {
     public static String getSHA256(File file) {
         return getMessageDigest(DigestAlgos.SHA_256, file);
     }
+
+    /*
+     * ----- 多种算法同时计算 -----
+     */
+
+    /**
+     * 同时获取多种算法的消息摘要。
+     *
+     * @param algos 算法集合，请选择 {@link DigestAlgos} 中的枚举常量。
+     * @param data  原始数据。
+     * @return 算法与消息摘要（非空，计算失败时返回空集合）。
+     */
+    public static Map<DigestAlgos, String> getMessageDigests(Set<DigestAlgos> algos, byte[] data) {
+        Map<DigestAlgos, String> result = new EnumMap<>(DigestAlgos.class);
+
+        try {
+            for (DigestAlgos algo : algos) {
+                result.put(algo, toHexString(getDigest(algo).digest(data)));
+            }
+        } catch (Exception e) {
+            // 通常不会执行至此处，因为该方法只接受JDK支持的算法。
+            System.err.println("Get message digests failed! Reason:[" + e.getMessage() + "]");
+            result.clear();
+        }
+
+        return result;
+    }
+
+    /**
+     * 同时获取文件多种算法的消息摘要。
+     * <p>
+     * 文件内容只读取一次，每次读入缓冲区的数据依次更新各算法的计算结果。与分别调用 {@link #getMD5(File)} 、
+     * {@link #getSHA256(File)} 等方法相比，无法被系统缓存容纳的大文件可以减少重复的磁盘读取。
+     *
+     * @param algos 算法集合，请选择 {@link DigestAlgos} 中的枚举常量。
+     * @param file  目标文件。
+     * @return 算法与消息摘要（非空，文件不存在/不可读等情况下将返回空集合）。
+     */
+    public static Map<DigestAlgos, String> getMessageDigests(Set<DigestAlgos> algos, File file) {
+        Map<DigestAlgos, String> result = new EnumMap<>(DigestAlgos.class);
+
+        try (
+                FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)
+        ) {
+            // 获取当前线程缓存的消息摘要工具实例，每种算法各一个。
+            DigestAlgos[] keys = algos.toArray(new DigestAlgos[0]);
+            MessageDigest[] mds = new MessageDigest[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                mds[i] = getDigest(keys[i]);
+            }
+            // 读取文件内容，更新所有算法的计算结果。
+            updateDigest(channel, mds);
+
+            for (int i = 0; i < keys.length; i++) {
+                result.put(keys[i], toHexString(mds[i].digest()));
+            }
+        } catch (Exception e) {
+            System.err.println("Get message digests failed! Reason:[" + e.getMessage() + "]");
+            result.clear();
+        }
+
+        return result;
+    }
+
+    /*
+     * ----- 流式计算 -----
+     */
+
+    /**
+     * 创建消息摘要计算会话。
+     * <p>
+     * 会话持有独立的消息摘要工具实例，适用于分批到达的数据；配合 {@link DigestingInputStream} 、 {@link DigestingOutputStream}
+     * 可以在现有的输入输出流中顺带计算消息摘要。
+     *
+     * @param algo 算法，请选择 {@link DigestAlgos} 中的枚举常量。
+     * @return 计算会话（罕见的情况下可能返回空值）。
+     */
+    public static DigestSession newSession(DigestAlgos algo) {
+        try {
+            return new DigestSession(algo, MessageDigest.getInstance(algo.getStandardName()));
+        } catch (NoSuchAlgorithmException e) {
+            // 通常不会执行至此处，因为该方法只接受JDK支持的算法。
+            System.err.println("Create digest session failed! Reason:[" + e.getMessage() + "]");
+            return null;
+        }
+    }
+
+    /*
+     * ----- 批量计算文件 -----
+     */
+
+    /**
+     * 批量获取文件的消息摘要。
+     * <p>
+     * 文件按照长度从大到小的顺序提交至线程池并行计算，避免最大的文件最后开始计算，导致其他线程空闲等待。每个文件计算完毕后立即通过
+     * "consumer"返回结果，计算失败的文件将被忽略。
+     * <p>
+     * 指定缓存时，长度与修改时间均与缓存记录一致的文件将直接返回缓存的结果，不会重新读取；新计算的结果也将存入缓存，供下一次调用使用。
+     *
+     * @param algo     算法，请选择 {@link DigestAlgos} 中的枚举常量。
+     * @param files    文件集合，目录与不存在的文件将被忽略。
+     * @param executor 线程池，传入空值时将创建与CPU核心数相同的临时线程池，计算完毕后关闭。
+     * @param cache    消息摘要缓存，传入空值时不使用缓存。
+     * @param consumer 结果接收者，可能在多个线程中同时被调用。
+     * @return 成功获取消息摘要的文件数量（包括使用缓存的文件），参数无效或计算被中断时返回"-1"。
+     */
+    public static long getMessageDigests(DigestAlgos algo, Collection<File> files, ExecutorService executor,
+                                         DigestCache cache, FileDigestConsumer consumer) {
+        // 校验输入参数
+        if (algo == null || files == null || consumer == null) {
+            System.err.println("Get message digests failed! Reason:[Algorithm, files or consumer is null]");
+            return -1L;
+        }
+
+        // 读取文件长度与修改时间，命中缓存的文件直接返回结果。
+        AtomicLong succeeded = new AtomicLong();
+        List<FileInfo> pending = new ArrayList<>();
+        for (File file : files) {
+            if (file == null || !file.isFile()) {
+                continue;
+            }
+
+            FileInfo info = new FileInfo(file, file.length(), file.lastModified());
+            String cached = cache == null ? null : cache.get(algo, file, info.size, info.lastModified);
+            if (cached != null) {
+                consumer.accept(file, cached);
+                succeeded.incrementAndGet();
+            } else {
+                pending.add(info);
+            }
+        }
+
+        // 按照长度从大到小的顺序提交
+        pending.sort((a, b) -> Long.compare(b.size, a.size));
+
+        ExecutorService pool = executor;
+        if (pool == null) {
+            pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        }
+
+        List<Future<?>> futures = new ArrayList<>(pending.size());
+        try {
+            for (FileInfo info : pending) {
+                futures.add(pool.submit(() -> {
+                    String digest = getMessageDigest(algo, info.file);
+                    if (digest.isEmpty()) {
+                        return;
+                    }
+
+                    if (cache != null) {
+                        cache.put(algo, info.file, info.size, info.lastModified, digest);
+                    }
+                    consumer.accept(info.file, digest);
+                    succeeded.incrementAndGet();
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // 结果接收者抛出异常，仅影响当前文件。
+                    System.err.println("Get message digests failed! Reason:[" + e.getCause().getMessage() + "]");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Get message digests interrupted!");
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+            return -1L;
+        } finally {
+            if (executor == null) {
+                pool.shutdownNow();
+            }
+        }
+
+        return succeeded.get();
+    }
+
+    /**
+     * 批量获取目录中所有文件的消息摘要。
+     * <p>
+     * 将递归遍历目录中的所有普通文件，不跟随符号链接，其他行为与
+     * {@link #getMessageDigests(DigestAlgos, Collection, ExecutorService, DigestCache, FileDigestConsumer)} 一致。
+     *
+     * @param algo      算法，请选择 {@link DigestAlgos} 中的枚举常量。
+     * @param directory 目录。
+     * @param executor  线程池，传入空值时将创建与CPU核心数相同的临时线程池，计算完毕后关闭。
+     * @param cache     消息摘要缓存，传入空值时不使用缓存。
+     * @param consumer  结果接收者，可能在多个线程中同时被调用。
+     * @return 成功获取消息摘要的文件数量（包括使用缓存的文件），参数无效、遍历失败或计算被中断时返回"-1"。
+     */
+    public static long getMessageDigests(DigestAlgos algo, File directory, ExecutorService executor,
+                                         DigestCache cache, FileDigestConsumer consumer) {
+        if (directory == null || !directory.isDirectory()) {
+            System.err.println("Get message digests failed! Reason:[Directory not exist]");
+            return -1L;
+        }
+
+        List<File> files = new ArrayList<>();
+        try {
+            Files.walkFileTree(directory.toPath(), new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (attrs.isRegularFile()) {
+                        files.add(file.toFile());
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    // 无法访问的文件或目录将被忽略
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            System.err.println("Get message digests failed! Reason:[" + e.getMessage() + "]");
+            return -1L;
+        }
+
+        return getMessageDigests(algo, files, executor, cache, consumer);
+    }
+
+    /**
+     * 获取当前线程缓存的消息摘要工具实例。
+     * <p>
+     * 返回的实例已被重置，调用者使用完毕后无需归还，但不得传递给其他线程或在下一次调用本方法后继续使用。
+     *
+     * @param algo 算法。
+     * @return 消息摘要工具实例。
+     * @throws NoSuchAlgorithmException JDK不支持该算法。
+     */
+    private static MessageDigest getDigest(DigestAlgos algo) throws NoSuchAlgorithmException {
+        MessageDigest[] digests = DIGESTS.get();
+        MessageDigest md = digests[algo.ordinal()];
+        if (md == null) {
+            md = MessageDigest.getInstance(algo.getStandardName());
+            digests[algo.ordinal()] = md;
+        } else {
+            md.reset();
+        }
+
+        return md;
+    }
+
+    /**
+     * 将消息摘要转为大写的16进制文本。
+     *
+     * @param bytes 消息摘要。
+     * @return 16进制文本。
+     */
+    static String toHexString(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0x0F];
+            chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0x0F];
+        }
+
+        return new String(chars);
+    }
+
+    /**
+     * 读取文件通道中的剩余数据，并更新消息摘要。
+     *
+     * @param channel 文件通道。
+     * @param mds     消息摘要工具实例，每段数据依次更新所有实例。
+     * @throws IOException 读取失败。
+     */
+    private static void updateDigest(FileChannel channel, MessageDigest... mds) throws IOException {
+        long position = channel.position();
+        long size = channel.size();
+
+        // 大文件分段映射至内存，映射区域由GC负责释放。
+        if (size - position >= MAPPED_THRESHOLD) {
+            while (position < size) {
+                long length = Math.min(MAPPED_WINDOW_SIZE, size - position);
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                updateDigest(mapped, mds);
+                position += length;
+            }
+            channel.position(position);
+        }
+
+        // 读取剩余数据，包括映射期间追加的数据，以及无法获取长度的特殊文件。
+        ByteBuffer buffer = getFileBuffer(size - position);
+        while (channel.read(buffer) != -1) {
+            buffer.flip();
+            updateDigest(buffer, mds);
+            buffer.clear();
+        }
+    }
+
+    /**
+     * 使用缓冲区中的剩余数据更新消息摘要。
+     * <p>
+     * 每个实例更新前将读取位置恢复至起点，使所有实例获得相同的数据。
+     *
+     * @param buffer 缓冲区。
+     * @param mds    消息摘要工具实例。
+     */
+    private static void updateDigest(ByteBuffer buffer, MessageDigest[] mds) {
+        int start = buffer.position();
+        for (MessageDigest md : mds) {
+            buffer.position(start);
+            md.update(buffer);
+        }
+    }
+
+    /**
+     * 获取当前线程缓存的文件读取缓冲区。
+     * <p>
+     * 缓存的缓冲区容量不足时，将创建新的缓冲区并替换缓存，因此每个线程最多保留一个不超过1MB的缓冲区。
+     *
+     * @param size 待读取的数据长度，未知时可以传入"0"。
+     * @return 已清空的缓冲区，"limit"为本次使用的容量。
+     */
+    private static ByteBuffer getFileBuffer(long size) {
+        int capacity = FILE_BUFFER_MAX_SIZE;
+        if (size > 0L) {
+            capacity = (int) Math.min(Math.max(size, FILE_BUFFER_MIN_SIZE), FILE_BUFFER_MAX_SIZE);
+        }
+
+        ByteBuffer buffer = FILE_BUFFERS.get();
+        if (buffer == null || buffer.capacity() < capacity) {
+            buffer = ByteBuffer.allocateDirect(capacity);
+            FILE_BUFFERS.set(buffer);
+        }
+
+        buffer.clear();
+        buffer.limit(capacity);
+        return buffer;
+    }
+
+    /**
+     * 待计算的文件信息
+     */
+    private static final class FileInfo {
+
+        private final File file;
+        private final long size;
+        private final long lastModified;
+
+        FileInfo(File file, long size, long lastModified) {
+            this.file = file;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
 }
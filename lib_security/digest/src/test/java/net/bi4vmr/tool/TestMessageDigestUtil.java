@@ -1,11 +1,31 @@
 package net.bi4vmr.tool;
 
+import net.bi4vmr.tool.java.security.digest.DigestAlgos;
+import net.bi4vmr.tool.java.security.digest.DigestCache;
+import net.bi4vmr.tool.java.security.digest.DigestSession;
+import net.bi4vmr.tool.java.security.digest.DigestingInputStream;
+import net.bi4vmr.tool.java.security.digest.DigestingOutputStream;
 import net.bi4vmr.tool.java.security.digest.MessageDigestUtil;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * MessageDigestUtil的测试类。
@@ -68,4 +88,156 @@ public class TestMessageDigestUtil {
         Assertions.assertEquals("242AE29806780890D1C5C22BD0C8F1A274878118", sha1);
         Assertions.assertEquals("7C39C9C9777749CB6CC890084453354399F063FD9B9D92C0DFB70C2C133DDDFC", sha256);
     }
+
+    @Test
+    void test_DigestInto() {
+        byte[] data = "xxHello World!xx".getBytes(StandardCharsets.UTF_8);
+
+        // 缓存的实例在每次计算前重置，交替使用不同算法时结果不受影响。
+        byte[] out = new byte[DigestAlgos.SHA_256.getDigestLength() + 2];
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(16, MessageDigestUtil.digestInto(DigestAlgos.MD5, data, 2, 12, out, 2));
+            Assertions.assertEquals("ED076287532E86365E841E92BFC50D8C", toHex(out, 2, 16));
+            Assertions.assertEquals(32, MessageDigestUtil.digestInto(DigestAlgos.SHA_256, data, 2, 12, out, 2));
+            Assertions.assertEquals("7F83B1657FF1FC53B92DC18148A1D65DFC2D4B1FA3D677284ADDD200126D9069",
+                    toHex(out, 2, 32));
+        }
+
+        // 输出空间不足时返回"-1"，且不影响后续计算。
+        Assertions.assertEquals(-1, MessageDigestUtil.digestInto(DigestAlgos.SHA_256, data, new byte[16]));
+        Assertions.assertEquals("ED076287532E86365E841E92BFC50D8C", MessageDigestUtil.getMD5("Hello World!"));
+    }
+
+    @Test
+    void test_InputLargeFile() throws Exception {
+        // 覆盖单次读取、多次读取与内存映射三种情况
+        int[] sizes = {0, 5000, 3 * 1024 * 1024 + 7, 65 * 1024 * 1024 + 3};
+        for (int size : sizes) {
+            byte[] data = new byte[size];
+            new Random(size).nextBytes(data);
+            File file = File.createTempFile("TestMessageDigestUtil", ".bin");
+            try {
+                Files.write(file.toPath(), data);
+                byte[] expected = MessageDigest.getInstance("SHA-256").digest(data);
+                Assertions.assertEquals(toHex(expected, 0, expected.length), MessageDigestUtil.getSHA256(file));
+            } finally {
+                Assertions.assertTrue(file.delete());
+            }
+        }
+
+        // 文件不存在时返回空字符串
+        Assertions.assertEquals("", MessageDigestUtil.getMD5(new File("not_exist.bin")));
+    }
+
+    @Test
+    void test_InputFiles() throws Exception {
+        File dir = Files.createTempDirectory("TestMessageDigestUtil").toFile();
+        File sub = new File(dir, "sub");
+        Assertions.assertTrue(sub.mkdir());
+        Map<String, String> expected = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            byte[] data = new byte[i * 100000];
+            new Random(i).nextBytes(data);
+            File file = new File(i % 2 == 0 ? dir : sub, i + ".bin");
+            Files.write(file.toPath(), data);
+            expected.put(file.getAbsolutePath(), MessageDigestUtil.getSHA256(data));
+        }
+
+        // 并行计算，结果逐个返回。
+        DigestCache cache = new DigestCache();
+        Map<String, String> results = new ConcurrentHashMap<>();
+        long count = MessageDigestUtil.getMessageDigests(DigestAlgos.SHA_256, dir, null, cache,
+                (file, digest) -> results.put(file.getAbsolutePath(), digest));
+        Assertions.assertEquals(10L, count);
+        Assertions.assertEquals(expected, results);
+        Assertions.assertEquals(10, cache.size());
+
+        // 长度与修改时间不变的文件使用缓存的结果，不会重新读取。
+        File file = new File(sub, "9.bin");
+        long lastModified = file.lastModified();
+        Files.write(file.toPath(), new byte[(int) file.length()]);
+        Assertions.assertTrue(file.setLastModified(lastModified));
+        results.clear();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            count = MessageDigestUtil.getMessageDigests(DigestAlgos.SHA_256, Collections.singletonList(file),
+                    executor, cache, (f, digest) -> results.put(f.getAbsolutePath(), digest));
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertEquals(1L, count);
+        Assertions.assertEquals(expected.get(file.getAbsolutePath()), results.get(file.getAbsolutePath()));
+        Assertions.assertEquals(1L, cache.getHitCount());
+    }
+
+    @Test
+    void test_InputFileMultiAlgos() throws Exception {
+        // 覆盖多次读取与内存映射两种情况
+        int[] sizes = {3 * 1024 * 1024 + 7, 65 * 1024 * 1024 + 3};
+        Set<DigestAlgos> algos = EnumSet.of(DigestAlgos.MD5, DigestAlgos.SHA_256);
+        for (int size : sizes) {
+            byte[] data = new byte[size];
+            new Random(size).nextBytes(data);
+            File file = File.createTempFile("TestMessageDigestUtil", ".bin");
+            try {
+                Files.write(file.toPath(), data);
+                Map<DigestAlgos, String> expected = new EnumMap<>(DigestAlgos.class);
+                expected.put(DigestAlgos.MD5, MessageDigestUtil.getMD5(data));
+                expected.put(DigestAlgos.SHA_256, MessageDigestUtil.getSHA256(data));
+                Assertions.assertEquals(expected, MessageDigestUtil.getMessageDigests(algos, file));
+                Assertions.assertEquals(expected, MessageDigestUtil.getMessageDigests(algos, data));
+            } finally {
+                Assertions.assertTrue(file.delete());
+            }
+        }
+
+        // 文件不存在时返回空集合
+        Assertions.assertTrue(MessageDigestUtil.getMessageDigests(algos, new File("not_exist.bin")).isEmpty());
+    }
+
+    @Test
+    void test_Session() throws Exception {
+        byte[] data = new byte[100000];
+        new Random(1).nextBytes(data);
+        String expected = MessageDigestUtil.getSHA256(data);
+
+        // 分批输入数据
+        DigestSession session = MessageDigestUtil.newSession(DigestAlgos.SHA_256);
+        session.update(data, 0, 1000);
+        session.update(data[1000]);
+        session.update(ByteBuffer.wrap(data, 1001, data.length - 1001));
+        Assertions.assertEquals((long) data.length, session.getLength());
+        Assertions.assertEquals(expected, session.finish());
+        Assertions.assertEquals(0L, session.getLength());
+
+        // 读取输入流，跳过的数据同样参与计算，关闭时结束计算。
+        DigestingInputStream input = new DigestingInputStream(new ByteArrayInputStream(data),
+                MessageDigestUtil.newSession(DigestAlgos.SHA_256));
+        Assertions.assertEquals(1, input.read(new byte[1]));
+        Assertions.assertEquals(5000L, input.skip(5000L));
+        while (input.read(new byte[4096]) != -1) {
+            Assertions.assertNull(input.getDigest());
+        }
+        input.close();
+        Assertions.assertEquals(expected, input.getDigest());
+
+        // 写入输出流
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DigestingOutputStream output = new DigestingOutputStream(buffer,
+                MessageDigestUtil.newSession(DigestAlgos.MD5))) {
+            output.write(data[0]);
+            output.write(data, 1, data.length - 1);
+            output.close();
+            Assertions.assertEquals(MessageDigestUtil.getMD5(data), output.getDigest());
+        }
+        Assertions.assertArrayEquals(data, buffer.toByteArray());
+    }
+
+    private static String toHex(byte[] data, int offset, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = offset; i < offset + length; i++) {
+            builder.append(String.format("%02X", data[i]));
+        }
+        return builder.toString();
+    }
 }
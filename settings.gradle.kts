@@ -52,6 +52,7 @@ include(":lib_serial:gson")
 
 // 输入输出
 include(":lib_io:base")
+include(":lib_io:benchmark")
 
 // 数据存储
 // include(":lib_storage:file")